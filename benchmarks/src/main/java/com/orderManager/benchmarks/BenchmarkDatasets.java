@@ -0,0 +1,59 @@
+package com.orderManager.benchmarks;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.orderManager.OrderGenerator;
+import com.orderManager.OrderSeeder;
+import org.bson.Document;
+
+/**
+ * Seeded datasets for the benchmarks, one database per size.
+ * Databases are kept between runs and only re-seeded when their size is wrong,
+ * so large tiers are paid for once.
+ */
+public final class BenchmarkDatasets {
+    public static final String URI = firstNonEmpty(
+        System.getenv("BENCH_MONGO_URI"), System.getenv("TEST_MONGO_URI"), "mongodb://localhost:27017");
+    private static final long SEED = 42;
+
+    private BenchmarkDatasets() {
+    }
+
+    public static MongoClient connect() {
+        return MongoClients.create(URI);
+    }
+
+    /**
+     * Database holding exactly {@code size} generated orders
+     */
+    public static MongoDatabase ensureSeeded(MongoClient client, long size) {
+        MongoDatabase database = client.getDatabase("order_manager_bench_" + size);
+        MongoCollection<Document> orders = database.getCollection("orders");
+        if (orders.countDocuments() != size) {
+            database.drop();
+            long started = System.nanoTime();
+            OrderSeeder.seed(orders, generator(), size);
+            System.out.printf("%nSeeded %,d orders into %s in %.1f s%n",
+                size, database.getName(), (System.nanoTime() - started) / 1e9);
+        }
+        return database;
+    }
+
+    /**
+     * The generator every dataset is seeded from, for deriving realistic query terms
+     */
+    public static OrderGenerator generator() {
+        return new OrderGenerator(SEED);
+    }
+
+    private static String firstNonEmpty(String... values) {
+        for (String value : values) {
+            if (value != null && !value.isEmpty()) {
+                return value;
+            }
+        }
+        return null;
+    }
+}
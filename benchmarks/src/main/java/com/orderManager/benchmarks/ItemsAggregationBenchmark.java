@@ -0,0 +1,105 @@
+package com.orderManager.benchmarks;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.Sorts;
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The items aggregation behind "/items" against growing datasets, compared with
+ * projecting before $unwind and with reading a pre-aggregated item_stats collection.
+ * Multikey indexes on items.* cannot cover this pipeline, so no index variant is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemsAggregationBenchmark {
+    private static final Document GROUP = new Document("$group",
+        new Document("_id", new Document("sku", "$items.sku").append("description", "$items.description"))
+            .append("total_qty", new Document("$sum", "$items.qty"))
+            .append("avg_price", new Document("$avg", "$items.price"))
+            .append("total_amount", new Document("$sum", "$items.amount"))
+            .append("order_count", new Document("$sum", 1)));
+    private static final Document PROJECT = new Document("$project", new Document("_id", 0)
+        .append("sku", "$_id.sku")
+        .append("description", "$_id.description")
+        .append("total_qty", 1)
+        .append("avg_price", 1)
+        .append("total_amount", 1)
+        .append("order_count", 1));
+    private static final Document SORT = new Document("$sort", new Document("total_amount", -1));
+
+    // Exactly the pipeline items_page() runs without a search term
+    static final List<Document> ITEMS_PIPELINE = List.of(
+        new Document("$unwind", "$items"), GROUP, PROJECT, SORT);
+
+    // Drop every order field except the item values before documents are multiplied by $unwind
+    static final List<Document> PROJECT_FIRST_PIPELINE = List.of(
+        new Document("$project", new Document("_id", 0)
+            .append("items.sku", 1).append("items.description", 1).append("items.qty", 1)
+            .append("items.price", 1).append("items.amount", 1)),
+        new Document("$unwind", "$items"), GROUP, PROJECT, SORT);
+
+    @Param({"1000", "10000", "100000"})
+    public long size;
+
+    private MongoClient client;
+    private MongoCollection<Document> orders;
+    private MongoCollection<Document> itemStats;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        client = BenchmarkDatasets.connect();
+        MongoDatabase database = BenchmarkDatasets.ensureSeeded(client, size);
+        orders = database.getCollection("orders");
+
+        // Materialised once here; in the app it would be refreshed on write or on a schedule
+        itemStats = database.getCollection("item_stats");
+        itemStats.drop();
+        List<Document> materialise = new ArrayList<>(ITEMS_PIPELINE);
+        materialise.add(new Document("$out", "item_stats"));
+        orders.aggregate(materialise).toCollection();
+        itemStats.createIndex(Sorts.descending("total_amount"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    public List<Document> unwindGroupProject() {
+        return orders.aggregate(ITEMS_PIPELINE).into(new ArrayList<>());
+    }
+
+    @Benchmark
+    public List<Document> projectBeforeUnwind() {
+        return orders.aggregate(PROJECT_FIRST_PIPELINE).into(new ArrayList<>());
+    }
+
+    @Benchmark
+    public List<Document> preAggregatedItemStats() {
+        return itemStats.find().sort(Sorts.descending("total_amount")).into(new ArrayList<>());
+    }
+}
@@ -0,0 +1,92 @@
+package com.orderManager.benchmarks;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.ReplaceOptions;
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The KPI aggregation behind "/" (get_kpis in app.py) against growing datasets,
+ * compared with a covered index scan and a pre-aggregated counter document.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KpiAggregationBenchmark {
+    // Exactly the pipeline get_kpis() runs on every homepage request
+    static final List<Document> KPI_PIPELINE = List.of(
+        new Document("$group", new Document("_id", null)
+            .append("total_orders", new Document("$sum", 1))
+            .append("total_spend", new Document("$sum", "$total_amount"))
+            .append("avg_order", new Document("$avg", "$total_amount"))));
+
+    // Same result, but only reads total_amount so it can be answered from the index alone
+    static final List<Document> COVERED_PIPELINE = List.of(
+        new Document("$project", new Document("_id", 0).append("total_amount", 1)),
+        KPI_PIPELINE.get(0));
+
+    @Param({"1000", "10000", "100000"})
+    public long size;
+
+    private MongoClient client;
+    private MongoCollection<Document> orders;
+    private MongoCollection<Document> stats;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        client = BenchmarkDatasets.connect();
+        MongoDatabase database = BenchmarkDatasets.ensureSeeded(client, size);
+        orders = database.getCollection("orders");
+        orders.createIndex(Indexes.ascending("total_amount"));
+
+        // Counters an insert/update/delete path would maintain with $inc
+        stats = database.getCollection("order_stats");
+        Document totals = orders.aggregate(KPI_PIPELINE).first();
+        stats.replaceOne(new Document("_id", "kpis"),
+            new Document("_id", "kpis")
+                .append("count", totals.get("total_orders"))
+                .append("spend", totals.get("total_spend")),
+            new ReplaceOptions().upsert(true));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    public Document groupWholeCollection() {
+        return orders.aggregate(KPI_PIPELINE).first();
+    }
+
+    @Benchmark
+    public Document groupCoveredIndexScan() {
+        return orders.aggregate(COVERED_PIPELINE).hint(new Document("total_amount", 1)).first();
+    }
+
+    @Benchmark
+    public Document preAggregatedCounters() {
+        return stats.find(new Document("_id", "kpis")).first();
+    }
+}
@@ -0,0 +1,126 @@
+package com.orderManager.benchmarks;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Sorts;
+import com.orderManager.OrderGenerator;
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The case-insensitive $regex searches behind "/?search=" and "/search" against growing datasets.
+ * Neither can use an index, so latency grows with the collection; run with
+ * {@code -rf csv} to get one latency-versus-size curve per query kind.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class SearchBenchmark {
+    private static final String[] SEARCHED_FIELDS =
+        {"invoice_number", "customer_name", "salesman_name", "items.description", "items.sku"};
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public long size;
+
+    /**
+     * prefix: start of a customer name, infix: middle of an item description,
+     * noHit: matches nothing, special: the characters SearchFilterTest types
+     */
+    @Param({"prefix", "infix", "noHit", "special"})
+    public String kind;
+
+    private MongoClient client;
+    private MongoCollection<Document> orders;
+    private Document homepageQuery;
+    private Document searchRouteQuery;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        client = BenchmarkDatasets.connect();
+        orders = BenchmarkDatasets.ensureSeeded(client, size).getCollection("orders");
+        String term = term(kind);
+        homepageQuery = homepageQuery(term);
+        searchRouteQuery = searchRouteQuery(term);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+    }
+
+    /**
+     * index(): the five-way $or, newest 50 matches
+     */
+    @Benchmark
+    public List<Document> homepageSearch() {
+        return orders.find(homepageQuery).sort(Sorts.descending("created_at")).limit(50).into(new ArrayList<>());
+    }
+
+    /**
+     * search_orders(): invoice number or customer, every match
+     */
+    @Benchmark
+    public List<Document> searchRoute() {
+        return orders.find(searchRouteQuery).sort(Sorts.descending("created_at")).into(new ArrayList<>());
+    }
+
+    static Document homepageQuery(String term) {
+        List<Document> clauses = new ArrayList<>();
+        for (String field : SEARCHED_FIELDS) {
+            clauses.add(regex(field, term));
+        }
+        return new Document("$or", clauses);
+    }
+
+    // Mirrors app.py as written, including its "customer" field name
+    static Document searchRouteQuery(String term) {
+        return new Document("$or", List.of(regex("invoice_number", term), regex("customer", term)));
+    }
+
+    private static Document regex(String field, String term) {
+        return new Document(field, new Document("$regex", term).append("$options", "i"));
+    }
+
+    /**
+     * A term of the given kind, taken from the data the datasets are seeded with
+     */
+    static String term(String kind) {
+        OrderGenerator generator = BenchmarkDatasets.generator();
+        Document order = generator.order(0);
+        for (long sequence = 1; "Walk-in Customer".equals(order.getString("customer_name")); sequence++) {
+            order = generator.order(sequence);
+        }
+        switch (kind) {
+            case "prefix":
+                return order.getString("customer_name").substring(0, 3);
+            case "infix":
+                String description = order.getList("items", Document.class).get(0).getString("description");
+                return description.substring(description.length() / 2 - 2, description.length() / 2 + 2);
+            case "noHit":
+                return "zqxw-no-such-order";
+            case "special":
+                return "@#$%";
+            default:
+                throw new IllegalArgumentException("Unknown query kind: " + kind);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.orderManager.load;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local stand-in for Groq's OpenAI-compatible chat-completions endpoint.
+ * Answers every POST /openai/v1/chat/completions with a fixed invoice extraction after a
+ * configurable delay: base latency, uniform jitter and an optional cost per MB of request,
+ * since vision calls grow with the image they carry.
+ * The groq SDK reads GROQ_BASE_URL, so start the app with GROQ_BASE_URL=http://localhost:&lt;port&gt;.
+ *
+ * <pre>
+ * mvn -q compile exec:java -Dexec.mainClass=com.orderManager.load.GroqStub -Dexec.args="--port 9900 --latency 800 --jitter 200"
+ * </pre>
+ */
+public class GroqStub implements AutoCloseable {
+    static final String PATH = "/openai/v1/chat/completions";
+
+    // The message content is itself a JSON document, as the app asks for response_format json_object
+    private static final String EXTRACTION = "{\\\"header\\\": {\\\"invoice_number\\\": \\\"STUB-001\\\", "
+        + "\\\"date\\\": \\\"2024-01-01\\\", \\\"customer\\\": \\\"Stub Customer\\\", \\\"salesman\\\": \\\"Stub Salesman\\\"}, "
+        + "\\\"items\\\": [{\\\"sr_no\\\": 1, \\\"sku\\\": \\\"SKU-001\\\", \\\"description\\\": \\\"Stub item\\\", "
+        + "\\\"qty\\\": 2, \\\"price\\\": 50.0, \\\"amount\\\": 100.0}]}";
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final long latencyMillis;
+    private final long jitterMillis;
+    private final double millisPerMegabyte;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong bytesReceived = new AtomicLong();
+
+    public GroqStub(int port, long latencyMillis, long jitterMillis, double millisPerMegabyte) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.jitterMillis = jitterMillis;
+        this.millisPerMegabyte = millisPerMegabyte;
+        this.server = HttpServer.create(new InetSocketAddress(port), 512);
+        // One thread per call so that simulated latency overlaps like the real API's
+        server.setExecutor(executor);
+        server.createContext(PATH, this::handle);
+    }
+
+    public GroqStub start() {
+        server.start();
+        return this;
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    public long requests() {
+        return requests.get();
+    }
+
+    public long bytesReceived() {
+        return bytesReceived.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            long size = drain(exchange.getRequestBody());
+            long id = requests.incrementAndGet();
+            bytesReceived.addAndGet(size);
+
+            long delay = latencyMillis + (long) (millisPerMegabyte * size / (1024.0 * 1024.0));
+            if (jitterMillis > 0) {
+                delay += ThreadLocalRandom.current().nextLong(jitterMillis + 1);
+            }
+            TimeUnit.MILLISECONDS.sleep(delay);
+
+            byte[] body = response(id, size).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String response(long id, long requestBytes) {
+        // Roughly one prompt token per 4 bytes, as a usage block the SDK can parse
+        long promptTokens = Math.max(1, requestBytes / 4);
+        return "{\"id\": \"chatcmpl-stub-" + id + "\", \"object\": \"chat.completion\", "
+            + "\"created\": " + (System.currentTimeMillis() / 1000) + ", "
+            + "\"model\": \"meta-llama/llama-4-scout-17b-16e-instruct\", "
+            + "\"choices\": [{\"index\": 0, \"message\": {\"role\": \"assistant\", \"content\": \"" + EXTRACTION + "\"}, "
+            + "\"finish_reason\": \"stop\"}], "
+            + "\"usage\": {\"prompt_tokens\": " + promptTokens + ", \"completion_tokens\": 90, "
+            + "\"total_tokens\": " + (promptTokens + 90) + "}}";
+    }
+
+    private static long drain(InputStream in) throws IOException {
+        byte[] buffer = new byte[64 * 1024];
+        long total = 0;
+        for (int n; (n = in.read(buffer)) > 0; ) {
+            total += n;
+        }
+        return total;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = 9900;
+        long latency = 800;
+        long jitter = 200;
+        double perMegabyte = 0;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--port": port = Integer.parseInt(args[++i]); break;
+                case "--latency": latency = Long.parseLong(args[++i]); break;
+                case "--jitter": jitter = Long.parseLong(args[++i]); break;
+                case "--ms-per-mb": perMegabyte = Double.parseDouble(args[++i]); break;
+                default: throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        GroqStub stub = new GroqStub(port, latency, jitter, perMegabyte).start();
+        System.out.printf("Groq stub listening on http://localhost:%d%s (%d ms + up to %d ms jitter, %.0f ms/MB)%n",
+            stub.port(), PATH, latency, jitter, perMegabyte);
+        Thread.currentThread().join();
+    }
+}
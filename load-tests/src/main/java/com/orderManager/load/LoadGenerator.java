@@ -0,0 +1,123 @@
+package com.orderManager.load;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load generator for the order manager.
+ * Each virtual user loops over the read pages (/, /search?q=, /items) and,
+ * for a configurable share of iterations, a full write journey
+ * (add, look up by invoice, update, delete). Latencies are reported per route.
+ *
+ * <pre>
+ * mvn -q compile exec:java -Dexec.args="--url http://localhost:8000 --concurrency 50 --duration 60 --warmup 10"
+ * </pre>
+ */
+public class LoadGenerator {
+    private static final String[] SEARCH_TERMS = {"INV", "Customer", "SKU", "Rice", "LOAD", "no-such-order"};
+    private static final AtomicLong INVOICE_SEQUENCE = new AtomicLong();
+
+    private final OrderManagerClient client;
+    private final double writeRatio;
+    private final int itemsPerOrder;
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+
+    public LoadGenerator(OrderManagerClient client, double writeRatio, int itemsPerOrder) {
+        this.client = client;
+        this.writeRatio = writeRatio;
+        this.itemsPerOrder = itemsPerOrder;
+    }
+
+    /**
+     * One iteration of a virtual user
+     */
+    public void iteration() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        client.home();
+        client.search(SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)]);
+        client.items();
+
+        if (random.nextDouble() < writeRatio) {
+            String invoice = "LOAD-" + runId + "-" + INVOICE_SEQUENCE.incrementAndGet();
+            client.addOrder(invoice, itemsPerOrder);
+            String id = OrderManagerClient.findOrderId(client.searchInvoice(invoice));
+            if (id != null) {
+                client.updateOrder(id, invoice, itemsPerOrder);
+                client.deleteOrder(id);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        String url = System.getenv().getOrDefault("APP_URL", "http://localhost:8000");
+        int concurrency = 20;
+        int durationSeconds = 60;
+        int warmupSeconds = 10;
+        double writeRatio = 0.1;
+        int itemsPerOrder = 3;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--url": url = args[++i]; break;
+                case "--concurrency": concurrency = Integer.parseInt(args[++i]); break;
+                case "--duration": durationSeconds = Integer.parseInt(args[++i]); break;
+                case "--warmup": warmupSeconds = Integer.parseInt(args[++i]); break;
+                case "--write-ratio": writeRatio = Double.parseDouble(args[++i]); break;
+                case "--items": itemsPerOrder = Integer.parseInt(args[++i]); break;
+                default: throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        ExecutorService users = newUserExecutor(concurrency);
+        RouteStats stats = new RouteStats();
+        HttpClient http = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .build();
+        LoadGenerator generator = new LoadGenerator(
+            new OrderManagerClient(http, url, stats, Duration.ofSeconds(30)), writeRatio, itemsPerOrder);
+
+        System.out.printf("Driving %s with %d virtual users (%ds warm-up, %ds measured, write ratio %.2f)%n",
+            url, concurrency, warmupSeconds, durationSeconds, writeRatio);
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        for (int i = 0; i < concurrency; i++) {
+            users.execute(() -> {
+                while (running.get() && !Thread.currentThread().isInterrupted()) {
+                    generator.iteration();
+                }
+            });
+        }
+
+        TimeUnit.SECONDS.sleep(warmupSeconds);
+        stats.reset();
+        long started = System.nanoTime();
+        TimeUnit.SECONDS.sleep(durationSeconds);
+        Map<String, RouteStats.Window> windows = stats.snapshot();
+        double seconds = (System.nanoTime() - started) / 1e9;
+
+        running.set(false);
+        users.shutdown();
+        users.awaitTermination(30, TimeUnit.SECONDS);
+
+        RouteStats.printReport(System.out, windows, seconds);
+    }
+
+    /**
+     * One virtual thread per user on JDK 21+, otherwise one platform thread per user
+     */
+    static ExecutorService newUserExecutor(int concurrency) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(concurrency);
+        }
+    }
+}
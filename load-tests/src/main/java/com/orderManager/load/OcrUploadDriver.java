@@ -0,0 +1,341 @@
+package com.orderManager.load;
+
+import com.orderManager.ProcessMemory;
+import org.HdrHistogram.Histogram;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Closed-loop throughput test for POST /process_ocr.
+ * Streams multipart image uploads from disk at increasing concurrency, and per step reports
+ * latency, throughput and the app process's resident memory, then names the concurrency at
+ * which throughput stops growing. Point the app at {@link GroqStub} (GROQ_BASE_URL) so the
+ * numbers describe the app and not the remote model; --stub-port starts one in-process.
+ *
+ * <pre>
+ * mvn -q compile exec:java -Dexec.mainClass=com.orderManager.load.OcrUploadDriver \
+ *     -Dexec.args="--url http://localhost:8000 --images ../invoices --steps 1,2,4,8,16 --step-duration 30"
+ * </pre>
+ */
+public class OcrUploadDriver {
+    private static final String ROUTE = "/process_ocr";
+    private static final Pattern SUCCESS = Pattern.compile("\"success\"\\s*:\\s*true");
+    // A step that adds less than this much throughput over the previous one counts as saturated
+    private static final double MIN_GAIN = 0.10;
+
+    private final HttpClient http;
+    private final URI endpoint;
+    private final List<Path> images;
+    private final RouteStats stats;
+    private final AtomicLong uploadCount = new AtomicLong();
+
+    public OcrUploadDriver(HttpClient http, String baseUrl, List<Path> images, RouteStats stats) {
+        this.http = http;
+        this.endpoint = URI.create(baseUrl + ROUTE);
+        this.images = images;
+        this.stats = stats;
+    }
+
+    /**
+     * Upload one image, streamed from disk as the "file" part, and record the outcome
+     */
+    public void upload() {
+        Path image = images.get((int) (uploadCount.getAndIncrement() % images.size()));
+        String boundary = "----ocr-load-" + Long.toHexString(System.nanoTime());
+        long started = System.nanoTime();
+        boolean success = false;
+        try {
+            HttpRequest request = HttpRequest.newBuilder(endpoint)
+                .timeout(Duration.ofMinutes(2))
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(multipart(boundary, image))
+                .build();
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            // The route answers 200 even when OCR fails, so look at the success flag
+            success = response.statusCode() == 200 && SUCCESS.matcher(response.body()).find();
+        } catch (IOException e) {
+            success = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        stats.record(ROUTE, System.nanoTime() - started, success);
+    }
+
+    private static HttpRequest.BodyPublisher multipart(String boundary, Path image) throws FileNotFoundException {
+        String name = image.getFileName().toString();
+        String type = name.toLowerCase(Locale.ROOT).endsWith(".png") ? "image/png" : "image/jpeg";
+        byte[] head = ("--" + boundary + "\r\n"
+            + "Content-Disposition: form-data; name=\"file\"; filename=\"" + name + "\"\r\n"
+            + "Content-Type: " + type + "\r\n\r\n").getBytes(StandardCharsets.UTF_8);
+        byte[] tail = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8);
+        return HttpRequest.BodyPublishers.concat(
+            HttpRequest.BodyPublishers.ofByteArray(head),
+            HttpRequest.BodyPublishers.ofFile(image),
+            HttpRequest.BodyPublishers.ofByteArray(tail));
+    }
+
+    public static void main(String[] args) throws Exception {
+        String url = System.getenv().getOrDefault("APP_URL", "http://localhost:8000");
+        Path imageSource = null;
+        int[] steps = {1, 2, 4, 8, 16, 32};
+        int stepSeconds = 30;
+        int warmupSeconds = 5;
+        Path pidFile = Paths.get("..", "order_manager", "app.pid");
+        Long pid = null;
+        Integer stubPort = null;
+        long stubLatency = 800;
+        long stubJitter = 200;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--url": url = args[++i]; break;
+                case "--images": imageSource = Paths.get(args[++i]); break;
+                case "--steps": steps = Arrays.stream(args[++i].split(",")).mapToInt(s -> Integer.parseInt(s.trim())).toArray(); break;
+                case "--step-duration": stepSeconds = Integer.parseInt(args[++i]); break;
+                case "--warmup": warmupSeconds = Integer.parseInt(args[++i]); break;
+                case "--app-pid": pid = Long.parseLong(args[++i]); break;
+                case "--app-pid-file": pidFile = Paths.get(args[++i]); break;
+                case "--stub-port": stubPort = Integer.parseInt(args[++i]); break;
+                case "--stub-latency": stubLatency = Long.parseLong(args[++i]); break;
+                case "--stub-jitter": stubJitter = Long.parseLong(args[++i]); break;
+                default: throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        if (pid == null && Files.exists(pidFile)) {
+            pid = Long.parseLong(Files.readString(pidFile).trim());
+        }
+
+        List<Path> images = images(imageSource);
+        GroqStub stub = stubPort == null ? null : new GroqStub(stubPort, stubLatency, stubJitter, 0).start();
+        if (stub != null) {
+            System.out.printf("Groq stub on port %d (%d ms + up to %d ms); the app needs GROQ_BASE_URL=http://localhost:%d%n",
+                stub.port(), stubLatency, stubJitter, stub.port());
+        }
+        ProcessMemory memory = pid == null ? null : new ProcessMemory(pid);
+        System.out.printf("Uploading %d image(s) (%.1f MB total) to %s%s, steps %s, %ds warm-up + %ds each%n",
+            images.size(), totalBytes(images) / (1024.0 * 1024.0), url, ROUTE, Arrays.toString(steps),
+            warmupSeconds, stepSeconds);
+        if (memory == null) {
+            System.out.println("No app pid (--app-pid or --app-pid-file), memory will not be reported");
+        }
+
+        HttpClient http = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .build();
+        RouteStats stats = new RouteStats();
+        OcrUploadDriver driver = new OcrUploadDriver(http, url, images, stats);
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+
+        List<Step> results = new ArrayList<>();
+        long baselineRss = memory == null ? -1 : memory.residentBytes();
+        try {
+            for (int concurrency : steps) {
+                Step step = runStep(driver, stats, memory, sampler, concurrency, warmupSeconds, stepSeconds);
+                results.add(step);
+                System.out.println(step.describe(baselineRss));
+                if (saturatedTwice(results)) {
+                    System.out.println("Throughput stopped growing for two steps, skipping higher concurrency");
+                    break;
+                }
+            }
+        } finally {
+            sampler.shutdownNow();
+            if (stub != null) {
+                stub.close();
+            }
+        }
+
+        report(results, baselineRss);
+    }
+
+    private static Step runStep(OcrUploadDriver driver, RouteStats stats, ProcessMemory memory,
+                                ScheduledExecutorService sampler, int concurrency,
+                                int warmupSeconds, int stepSeconds) throws InterruptedException {
+        ExecutorService users = LoadGenerator.newUserExecutor(concurrency);
+        AtomicBoolean running = new AtomicBoolean(true);
+        for (int i = 0; i < concurrency; i++) {
+            users.execute(() -> {
+                while (running.get() && !Thread.currentThread().isInterrupted()) {
+                    driver.upload();
+                }
+            });
+        }
+
+        TimeUnit.SECONDS.sleep(warmupSeconds);
+        stats.reset();
+        Step step = new Step(concurrency);
+        step.rssStart = memory == null ? -1 : memory.residentBytes();
+        var sampling = memory == null ? null : sampler.scheduleAtFixedRate(
+            () -> step.rssPeak = Math.max(step.rssPeak, memory.residentBytes()), 0, 500, TimeUnit.MILLISECONDS);
+        long started = System.nanoTime();
+        TimeUnit.SECONDS.sleep(stepSeconds);
+        Map<String, RouteStats.Window> windows = stats.snapshot();
+        step.seconds = (System.nanoTime() - started) / 1e9;
+        if (sampling != null) {
+            sampling.cancel(false);
+        }
+        step.rssEnd = memory == null ? -1 : memory.residentBytes();
+        step.rssPeak = Math.max(step.rssPeak, Math.max(step.rssStart, step.rssEnd));
+        RouteStats.Window window = windows.get(ROUTE);
+        step.histogram = window == null ? new Histogram(3) : window.histogram;
+        step.errors = window == null ? 0 : window.errors;
+
+        running.set(false);
+        users.shutdown();
+        users.awaitTermination(2, TimeUnit.MINUTES);
+        return step;
+    }
+
+    private static boolean saturatedTwice(List<Step> results) {
+        int n = results.size();
+        return n >= 3 && !gained(results.get(n - 3), results.get(n - 2)) && !gained(results.get(n - 2), results.get(n - 1));
+    }
+
+    private static boolean gained(Step before, Step after) {
+        return after.throughput() > before.throughput() * (1 + MIN_GAIN);
+    }
+
+    private static void report(List<Step> results, long baselineRss) throws IOException {
+        Step saturation = null;
+        for (int i = 0; i < results.size(); i++) {
+            if (i + 1 == results.size() || !gained(results.get(i), results.get(i + 1))) {
+                saturation = results.get(i);
+                break;
+            }
+        }
+        if (saturation != null) {
+            System.out.printf(Locale.ROOT, "Throughput saturates at concurrency %d: %.2f uploads/s, p95 %.0f ms%s%n",
+                saturation.concurrency, saturation.throughput(), saturation.percentileMillis(95),
+                saturation == results.get(results.size() - 1) ? " (highest step run, may not be the real limit)" : "");
+        }
+
+        Path csv = Paths.get("target", "ocr-throughput.csv");
+        Files.createDirectories(csv.getParent());
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(csv))) {
+            out.println("concurrency,uploads,errors,uploads_per_s,p50_ms,p95_ms,p99_ms,max_ms,rss_start_mb,rss_end_mb,rss_peak_mb");
+            for (Step step : results) {
+                out.printf(Locale.ROOT, "%d,%d,%d,%.3f,%.1f,%.1f,%.1f,%.1f,%.1f,%.1f,%.1f%n",
+                    step.concurrency, step.histogram.getTotalCount(), step.errors, step.throughput(),
+                    step.percentileMillis(50), step.percentileMillis(95), step.percentileMillis(99),
+                    step.histogram.getMaxValue() / 1000.0,
+                    megabytes(step.rssStart), megabytes(step.rssEnd), megabytes(step.rssPeak));
+            }
+        }
+        if (baselineRss > 0 && !results.isEmpty()) {
+            Step last = results.get(results.size() - 1);
+            System.out.printf(Locale.ROOT, "App RSS grew from %.1f MB to %.1f MB (peak %.1f MB)%n",
+                megabytes(baselineRss), megabytes(last.rssEnd),
+                megabytes(results.stream().mapToLong(s -> s.rssPeak).max().orElse(-1)));
+        }
+        System.out.println("Wrote " + csv);
+    }
+
+    /**
+     * Image files from a directory (or a single file); without one, a generated photo-sized JPEG
+     */
+    private static List<Path> images(Path source) throws IOException {
+        if (source == null) {
+            return List.of(generatedImage());
+        }
+        if (Files.isRegularFile(source)) {
+            return List.of(source);
+        }
+        List<Path> images;
+        try (Stream<Path> files = Files.list(source)) {
+            images = files.filter(f -> f.getFileName().toString().toLowerCase(Locale.ROOT).matches(".*\\.(jpe?g|png)"))
+                .sorted()
+                .collect(Collectors.toList());
+        }
+        if (images.isEmpty()) {
+            throw new IllegalArgumentException("No .jpg, .jpeg or .png files in " + source);
+        }
+        return images;
+    }
+
+    private static Path generatedImage() throws IOException {
+        // Noise compresses badly, so a phone-camera resolution gives a realistically large upload
+        BufferedImage image = new BufferedImage(1600, 1200, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(42);
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                image.setRGB(x, y, random.nextInt(0x1000000));
+            }
+        }
+        Path file = Files.createTempFile("ocr-load-", ".jpg");
+        file.toFile().deleteOnExit();
+        ImageIO.write(image, "jpg", file.toFile());
+        return file;
+    }
+
+    private static long totalBytes(List<Path> images) throws IOException {
+        long total = 0;
+        for (Path image : images) {
+            total += Files.size(image);
+        }
+        return total;
+    }
+
+    private static double megabytes(long bytes) {
+        return bytes < 0 ? Double.NaN : bytes / (1024.0 * 1024.0);
+    }
+
+    private static final class Step {
+        final int concurrency;
+        double seconds;
+        Histogram histogram;
+        long errors;
+        long rssStart = -1;
+        long rssEnd = -1;
+        volatile long rssPeak = -1;
+
+        Step(int concurrency) {
+            this.concurrency = concurrency;
+        }
+
+        double throughput() {
+            return (histogram.getTotalCount() - errors) / seconds;
+        }
+
+        double percentileMillis(double percentile) {
+            return histogram.getValueAtPercentile(percentile) / 1000.0;
+        }
+
+        String describe(long baselineRss) {
+            String memory = rssEnd < 0 ? "" : String.format(Locale.ROOT, "  rss %.1f MB (%+.1f MB, peak %.1f MB)",
+                megabytes(rssEnd), megabytes(rssEnd - baselineRss), megabytes(rssPeak));
+            return String.format(Locale.ROOT,
+                "concurrency %3d: %6d uploads, %4d errors, %7.2f uploads/s, p50 %7.0f ms, p95 %7.0f ms, p99 %7.0f ms%s",
+                concurrency, histogram.getTotalCount(), errors, throughput(),
+                percentileMillis(50), percentileMillis(95), percentileMillis(99), memory);
+        }
+    }
+}
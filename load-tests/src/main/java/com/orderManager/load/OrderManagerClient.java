@@ -0,0 +1,125 @@
+package com.orderManager.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.StringJoiner;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Thin HTTP client for the order manager routes. Every call is timed and
+ * recorded in {@link RouteStats} under its route template.
+ * Redirects are not followed, so a POST is measured on its own.
+ */
+public class OrderManagerClient {
+    private static final Pattern EDIT_LINK = Pattern.compile("/orders/([0-9a-f]{24})/edit");
+
+    private final HttpClient http;
+    private final String baseUrl;
+    private final RouteStats stats;
+    private final Duration timeout;
+
+    public OrderManagerClient(HttpClient http, String baseUrl, RouteStats stats, Duration timeout) {
+        this.http = http;
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.stats = stats;
+        this.timeout = timeout;
+    }
+
+    public String home() {
+        return get("/", "/");
+    }
+
+    public String search(String query) {
+        return get("/search?q=", "/search?q=" + encode(query));
+    }
+
+    /**
+     * Search for exactly one invoice number. /search is an unanchored regex match,
+     * so the term is anchored and everything but letters and digits is escaped
+     */
+    public String searchInvoice(String invoiceNumber) {
+        return search("^" + invoiceNumber.replaceAll("[^A-Za-z0-9]", "\\\\$0") + "$");
+    }
+
+    public String items() {
+        return get("/items", "/items");
+    }
+
+    public void addOrder(String invoiceNumber, int itemCount) {
+        post("/orders/add", "/orders/add", orderForm(invoiceNumber, "Load Test Customer", itemCount));
+    }
+
+    public void updateOrder(String id, String invoiceNumber, int itemCount) {
+        post("/orders/{id}/update", "/orders/" + id + "/update",
+            orderForm(invoiceNumber, "Load Test Customer (updated)", itemCount));
+    }
+
+    public void deleteOrder(String id) {
+        post("/orders/{id}/delete", "/orders/" + id + "/delete", "");
+    }
+
+    /**
+     * Resolve an order id from the edit links on a search results page
+     */
+    public static String findOrderId(String html) {
+        if (html == null) {
+            return null;
+        }
+        Matcher matcher = EDIT_LINK.matcher(html);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    private String get(String route, String path) {
+        return send(route, HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(timeout).GET().build());
+    }
+
+    private String post(String route, String path, String form) {
+        return send(route, HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(timeout)
+            .header("Content-Type", "application/x-www-form-urlencoded")
+            .POST(HttpRequest.BodyPublishers.ofString(form))
+            .build());
+    }
+
+    private String send(String route, HttpRequest request) {
+        long started = System.nanoTime();
+        try {
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            int status = response.statusCode();
+            stats.record(route, System.nanoTime() - started, status < 400);
+            return status < 400 ? response.body() : null;
+        } catch (IOException e) {
+            stats.record(route, System.nanoTime() - started, false);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private static String orderForm(String invoiceNumber, String customer, int itemCount) {
+        StringJoiner form = new StringJoiner("&");
+        form.add("invoice_number=" + encode(invoiceNumber));
+        form.add("customer_name=" + encode(customer));
+        form.add("salesman_name=" + encode("Load Test Salesman"));
+        for (int i = 1; i <= itemCount; i++) {
+            form.add("sr_no%5B%5D=" + i);
+            form.add("sku%5B%5D=" + encode("LOAD-SKU-" + i));
+            form.add("description%5B%5D=" + encode("Load test item " + i));
+            form.add("qty%5B%5D=" + i);
+            form.add("price%5B%5D=" + (100 + i));
+        }
+        return form.toString();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,94 @@
+package com.orderManager.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-route latency histograms and error counts, safe to record from many threads.
+ * Latencies are recorded in microseconds with 3 significant digits.
+ */
+public class RouteStats {
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Map<String, Route> routes = new ConcurrentSkipListMap<>();
+
+    /**
+     * Record one request against a route label such as "/items" or "/orders/{id}/update"
+     */
+    public void record(String route, long latencyNanos, boolean success) {
+        Route stats = routes.computeIfAbsent(route, r -> new Route());
+        stats.recorder.recordValue(Math.min(MAX_LATENCY_MICROS, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        if (!success) {
+            stats.errors.increment();
+        }
+    }
+
+    /**
+     * Discard everything recorded so far, e.g. at the end of warm-up
+     */
+    public void reset() {
+        for (Route stats : routes.values()) {
+            stats.recorder.reset();
+            stats.errors.reset();
+        }
+    }
+
+    /**
+     * Snapshot every route's histogram and error count; recording continues into a fresh interval
+     */
+    public Map<String, Window> snapshot() {
+        Map<String, Window> snapshot = new ConcurrentSkipListMap<>();
+        routes.forEach((route, stats) ->
+            snapshot.put(route, new Window(stats.recorder.getIntervalHistogram(), stats.errors.sumThenReset())));
+        return snapshot;
+    }
+
+    /**
+     * Print a per-route latency and throughput table for a measurement window
+     */
+    public static void printReport(PrintStream out, Map<String, Window> windows, double seconds) {
+        out.printf("%-24s %9s %7s %9s %9s %9s %9s %9s%n",
+            "route", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        long total = 0;
+        long totalErrors = 0;
+        for (Map.Entry<String, Window> entry : windows.entrySet()) {
+            Histogram h = entry.getValue().histogram;
+            long errors = entry.getValue().errors;
+            total += h.getTotalCount();
+            totalErrors += errors;
+            out.printf("%-24s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                entry.getKey(), h.getTotalCount(), errors, h.getTotalCount() / seconds,
+                millis(h.getValueAtPercentile(50)), millis(h.getValueAtPercentile(95)),
+                millis(h.getValueAtPercentile(99)), millis(h.getMaxValue()));
+        }
+        out.printf("%-24s %9d %7d %9.1f%n", "TOTAL", total, totalErrors, total / seconds);
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    /**
+     * Latencies and error count of one route over a measurement window
+     */
+    public static final class Window {
+        public final Histogram histogram;
+        public final long errors;
+
+        Window(Histogram histogram, long errors) {
+            this.histogram = histogram;
+            this.errors = errors;
+        }
+    }
+
+    private static final class Route {
+        final Recorder recorder = new Recorder(MAX_LATENCY_MICROS, 3);
+        final LongAdder errors = new LongAdder();
+    }
+}
@@ -1,4 +1,5 @@
 import os
+import re
 import base64
 import certifi
 from datetime import datetime
@@ -38,7 +39,15 @@ client = AsyncIOMotorClient(
     tlsCAFile=certifi.where(),
     serverSelectionTimeoutMS=10000
 )
-db = client.order_management_db if not TEST_MODE else client.order_management_test_db
+# Each test run owns its database namespace via TEST_DB_NAME; a shared default would let
+# concurrent runs wipe each other's data, so TEST_MODE refuses to start without one
+TEST_DB_NAME = os.getenv("TEST_DB_NAME")
+if TEST_MODE and not TEST_DB_NAME:
+    raise RuntimeError("TEST_MODE requires TEST_DB_NAME, e.g. TEST_DB_NAME=order_management_test_$USER")
+# Same rule as the Selenium suite's TestDatabase, so both always name the same database
+if TEST_MODE and not re.fullmatch(r"[A-Za-z0-9_-]{1,63}", TEST_DB_NAME):
+    raise RuntimeError(f"TEST_DB_NAME '{TEST_DB_NAME}' may only use letters, digits, '_' and '-' and at most 63 characters")
+db = client.order_management_db if not TEST_MODE else client[TEST_DB_NAME]
 orders_collection = db.orders
 
 # --- Groq Setup ---
@@ -0,0 +1,183 @@
+package com.orderManager;
+
+import org.bson.Document;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Generates synthetic orders shaped exactly like the ones the app stores.
+ * SKU and customer popularity follow Zipf distributions, item counts and
+ * quantities are geometric, so aggregates look like real trading data.
+ * Output is deterministic for a given seed: created_at is spread over the year
+ * before a fixed reference instant rather than the current time.
+ */
+public final class OrderGenerator {
+    private static final String[] ADJECTIVES = {
+        "Premium", "Standard", "Economy", "Heavy Duty", "Compact", "Deluxe", "Classic", "Industrial",
+        "Organic", "Imported", "Local", "Bulk", "Mini", "Large", "Stainless", "Plastic"
+    };
+    private static final String[] PRODUCTS = {
+        "Rice Bag", "Cooking Oil", "Sugar Pack", "Tea Box", "Detergent", "Soap Bar", "Shampoo", "Flour Sack",
+        "Bolt Set", "Pipe Fitting", "Cable Roll", "Paint Tin", "LED Bulb", "Switch Board", "Wall Socket",
+        "Notebook", "Ball Pen", "Printer Paper", "Water Bottle", "Lunch Box", "Hand Towel", "Bed Sheet"
+    };
+    private static final String[] FIRST_NAMES = {
+        "Ahmed", "Ali", "Ayesha", "Bilal", "Fatima", "Hamza", "Hassan", "Iqra", "Kamran", "Mahnoor",
+        "Noman", "Omer", "Saad", "Sana", "Usman", "Zainab", "Zeeshan", "Hira", "Faisal", "Amna"
+    };
+    private static final String[] LAST_NAMES = {
+        "Khan", "Malik", "Qureshi", "Sheikh", "Butt", "Chaudhry", "Raza", "Iqbal", "Hussain", "Siddiqui"
+    };
+    private static final String[] BUSINESS_SUFFIXES = {"Traders", "Stores", "Enterprises", "& Sons", "Mart"};
+    private static final long YEAR_MILLIS = 365L * 24 * 60 * 60 * 1000;
+    // 2025-01-01T00:00:00Z
+    private static final long DEFAULT_REFERENCE_MILLIS = 1_735_689_600_000L;
+
+    private final long seed;
+    private final String[] skus;
+    private final String[] descriptions;
+    private final double[] prices;
+    private final double[] skuCdf;
+    private final String[] customers;
+    private final double[] customerCdf;
+    private final String[] salesmen;
+    private final String invoicePrefix;
+    private final long referenceMillis;
+
+    public OrderGenerator(long seed) {
+        this(seed, 5_000, 20_000, 25);
+    }
+
+    public OrderGenerator(long seed, int skuCount, int customerCount, int salesmanCount) {
+        this(seed, skuCount, customerCount, salesmanCount, DEFAULT_REFERENCE_MILLIS);
+    }
+
+    /**
+     * Generator whose orders are dated within the year before referenceMillis
+     */
+    public OrderGenerator(long seed, int skuCount, int customerCount, int salesmanCount, long referenceMillis) {
+        this.seed = seed;
+        this.referenceMillis = referenceMillis;
+        this.invoicePrefix = "SEED-" + seed + "-";
+        SplittableRandom random = new SplittableRandom(seed);
+
+        skus = new String[skuCount];
+        descriptions = new String[skuCount];
+        prices = new double[skuCount];
+        for (int i = 0; i < skuCount; i++) {
+            skus[i] = String.format("SKU-%05d", i + 1);
+            descriptions[i] = pick(random, ADJECTIVES) + " " + pick(random, PRODUCTS);
+            // Log-normal prices: most items are cheap, a few are expensive
+            prices[i] = Math.round(Math.exp(5.0 + 1.2 * gaussian(random)) * 100) / 100.0;
+        }
+        skuCdf = zipfCdf(skuCount, 1.1);
+
+        customers = new String[customerCount];
+        for (int i = 0; i < customerCount; i++) {
+            customers[i] = random.nextInt(3) == 0
+                ? pick(random, LAST_NAMES) + " " + pick(random, BUSINESS_SUFFIXES)
+                : pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES);
+        }
+        customerCdf = zipfCdf(customerCount, 0.8);
+
+        salesmen = new String[salesmanCount];
+        for (int i = 0; i < salesmanCount; i++) {
+            salesmen[i] = pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES);
+        }
+    }
+
+    /**
+     * Orders with sequence numbers in [from, from + count); each order depends only on the seed and its sequence
+     */
+    public Stream<Document> orders(long from, long count) {
+        return LongStream.range(from, from + count).mapToObj(this::order);
+    }
+
+    /**
+     * Order number {@code sequence} of this generator's stream
+     */
+    public Document order(long sequence) {
+        SplittableRandom random = new SplittableRandom(seed * 0x9E3779B97F4A7C15L + sequence);
+
+        // 1 + geometric(p = 0.35): mean around 2.9 items, long tail up to 40
+        int itemCount = Math.min(40, 1 + geometric(random, 0.35));
+        List<Document> items = new ArrayList<>(itemCount);
+        int totalQuantity = 0;
+        double totalAmount = 0;
+        for (int i = 0; i < itemCount; i++) {
+            int sku = sample(random, skuCdf);
+            int qty = 1 + geometric(random, 0.5);
+            double amount = Math.round(qty * prices[sku] * 100) / 100.0;
+            items.add(new Document("sr_no", i + 1)
+                .append("sku", skus[sku])
+                .append("description", descriptions[sku])
+                .append("qty", qty)
+                .append("price", prices[sku])
+                .append("amount", amount));
+            totalQuantity += qty;
+            totalAmount += amount;
+        }
+
+        // Roughly one order in six is a walk-in sale, as the app records missing customers
+        String customer = random.nextInt(6) == 0 ? "Walk-in Customer" : customers[sample(random, customerCdf)];
+
+        return new Document("invoice_number", invoicePrefix + zeroPad(sequence))
+            .append("customer_name", customer)
+            .append("salesman_name", salesmen[random.nextInt(salesmen.length)])
+            .append("items", items)
+            .append("total_quantity", totalQuantity)
+            .append("total_amount", Math.round(totalAmount * 100) / 100.0)
+            .append("invoice_image", null)
+            .append("created_at", new Date(referenceMillis - (long) (random.nextDouble() * YEAR_MILLIS)));
+    }
+
+    private static String zeroPad(long sequence) {
+        String digits = Long.toString(sequence);
+        return digits.length() >= 8 ? digits : "00000000".substring(digits.length()) + digits;
+    }
+
+    private static double[] zipfCdf(int n, double exponent) {
+        double[] cdf = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += 1.0 / Math.pow(i + 1, exponent);
+            cdf[i] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cdf[i] /= sum;
+        }
+        return cdf;
+    }
+
+    private static int sample(SplittableRandom random, double[] cdf) {
+        double u = random.nextDouble();
+        int low = 0;
+        int high = cdf.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cdf[mid] < u) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int geometric(SplittableRandom random, double p) {
+        return (int) (Math.log(1 - random.nextDouble()) / Math.log(1 - p));
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        return Math.sqrt(-2 * Math.log(1 - random.nextDouble())) * Math.cos(2 * Math.PI * random.nextDouble());
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,177 @@
+package com.orderManager;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.InsertManyOptions;
+import org.bson.Document;
+import org.bson.codecs.DocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriter;
+import org.bson.json.JsonWriterSettings;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Bulk loader for synthetic orders from {@link OrderGenerator}.
+ * Batches are generated and inserted in parallel with unordered insertMany,
+ * or the same stream is written out as JSONL.
+ *
+ * <pre>
+ * mvn -q compile exec:java -Dexec.mainClass=com.orderManager.OrderSeeder \
+ *     -Dexec.args="--count 1000000 --drop"
+ * mvn -q compile exec:java -Dexec.mainClass=com.orderManager.OrderSeeder \
+ *     -Dexec.args="--count 1000000 --jsonl target/orders.jsonl.gz"
+ * </pre>
+ */
+public final class OrderSeeder {
+    public static final int DEFAULT_BATCH_SIZE = 5_000;
+    private static final DocumentCodec CODEC = new DocumentCodec();
+    private static final EncoderContext ENCODER_CONTEXT = EncoderContext.builder().build();
+    private static final JsonWriterSettings JSON_SETTINGS = JsonWriterSettings.builder().outputMode(JsonMode.RELAXED).build();
+
+    private OrderSeeder() {
+    }
+
+    /**
+     * Insert {@code count} generated orders using one worker per available core
+     */
+    public static long seed(MongoCollection<Document> orders, OrderGenerator generator, long count) {
+        return seed(orders, generator, count, DEFAULT_BATCH_SIZE, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Insert {@code count} generated orders in unordered batches spread over {@code threads} workers
+     */
+    public static long seed(MongoCollection<Document> orders, OrderGenerator generator, long count,
+                            int batchSize, int threads) {
+        return seed(orders, generator, 0, count, batchSize, threads);
+    }
+
+    /**
+     * Insert the generated orders with sequence numbers in [from, from + count), so a dataset can be grown in steps
+     */
+    public static long seed(MongoCollection<Document> orders, OrderGenerator generator, long from, long count,
+                            int batchSize, int threads) {
+        // Unordered batches let the server apply documents without stopping on the first error
+        InsertManyOptions options = new InsertManyOptions().ordered(false);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Callable<Integer>> batches = new ArrayList<>();
+            for (long offset = 0; offset < count; offset += batchSize) {
+                long start = from + offset;
+                long size = Math.min(batchSize, count - offset);
+                batches.add(() -> {
+                    List<Document> batch = generator.orders(start, size).collect(Collectors.toList());
+                    orders.insertMany(batch, options);
+                    return batch.size();
+                });
+            }
+            long inserted = 0;
+            for (Future<Integer> result : executor.invokeAll(batches)) {
+                inserted += result.get();
+            }
+            return inserted;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Seeding interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Seeding failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Write {@code count} generated orders as one JSON document per line; gzip when the name ends in .gz
+     */
+    public static long writeJsonl(Path file, OrderGenerator generator, long count) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        OutputStream out = Files.newOutputStream(file);
+        if (file.getFileName().toString().endsWith(".gz")) {
+            out = new GZIPOutputStream(out, 1 << 16);
+        }
+        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 1 << 16)) {
+            for (long i = 0; i < count; i++) {
+                // Encode straight into the file buffer instead of building an intermediate String
+                CODEC.encode(new JsonWriter(writer, JSON_SETTINGS), generator.order(i), ENCODER_CONTEXT);
+                writer.newLine();
+            }
+        }
+        return count;
+    }
+
+    public static void main(String[] args) throws IOException {
+        long count = 100_000;
+        long seed = 42;
+        // Same variables the tests and the app (in TEST_MODE) read
+        String uri = System.getenv("TEST_MONGO_URI");
+        String database = System.getenv("TEST_DB_NAME");
+        String jsonl = null;
+        int batchSize = DEFAULT_BATCH_SIZE;
+        int threads = Runtime.getRuntime().availableProcessors();
+        boolean drop = false;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--count": count = Long.parseLong(args[++i].replace("_", "")); break;
+                case "--seed": seed = Long.parseLong(args[++i]); break;
+                case "--uri": uri = args[++i]; break;
+                case "--db": database = args[++i]; break;
+                case "--jsonl": jsonl = args[++i]; break;
+                case "--batch": batchSize = Integer.parseInt(args[++i]); break;
+                case "--threads": threads = Integer.parseInt(args[++i]); break;
+                case "--drop": drop = true; break;
+                default: throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        OrderGenerator generator = new OrderGenerator(seed);
+        long started = System.nanoTime();
+        if (jsonl != null) {
+            writeJsonl(Paths.get(jsonl), generator, count);
+            report("Wrote", count, jsonl, started);
+            return;
+        }
+
+        if (uri == null || uri.isEmpty()) {
+            throw new IllegalArgumentException("Set TEST_MONGO_URI or pass --uri (or use --jsonl <file>)");
+        }
+        if (database == null || database.isEmpty()) {
+            throw new IllegalArgumentException("Set TEST_DB_NAME or pass --db");
+        }
+        try (MongoClient client = MongoClients.create(uri)) {
+            MongoCollection<Document> orders = client.getDatabase(database).getCollection("orders");
+            if (drop) {
+                orders.drop();
+            }
+            long inserted = seed(orders, generator, count, batchSize, threads);
+            report("Seeded", inserted, database + ".orders", started);
+        }
+    }
+
+    private static void report(String verb, long count, String target, long startedNanos) {
+        double seconds = (System.nanoTime() - startedNanos) / 1e9;
+        System.out.printf("✓ %s %,d orders into %s in %.1f s (%,.0f orders/s)%n",
+            verb, count, target, seconds, count / seconds);
+    }
+}
@@ -0,0 +1,120 @@
+package com.orderManager;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.stream.Stream;
+
+/**
+ * Resident memory and open file descriptors of a process and all of its descendants,
+ * read from /proc (Linux only). Descendants are included so that uvicorn worker processes are counted.
+ * Also used by the load-tests module (OCR throughput driver).
+ */
+public class ProcessMemory {
+    private final long pid;
+
+    public ProcessMemory(long pid) {
+        this.pid = pid;
+    }
+
+    public long pid() {
+        return pid;
+    }
+
+    /**
+     * The oldest process whose command line contains the given text, e.g. "uvicorn"
+     */
+    public static OptionalLong find(String commandLinePart) {
+        try (Stream<Path> processes = Files.list(Paths.get("/proc"))) {
+            return processes
+                .filter(p -> p.getFileName().toString().matches("\\d+"))
+                .filter(p -> commandLine(p).contains(commandLinePart))
+                .mapToLong(p -> Long.parseLong(p.getFileName().toString()))
+                .filter(p -> p != ProcessHandle.current().pid())
+                .min();
+        } catch (IOException | RuntimeException e) {
+            return OptionalLong.empty();
+        }
+    }
+
+    /**
+     * Total VmRSS in bytes, or -1 when the process is gone or /proc is unavailable
+     */
+    public long residentBytes() {
+        long total = 0;
+        boolean found = false;
+        for (long process : withDescendants(pid)) {
+            long rss = vmRss(process);
+            if (rss >= 0) {
+                total += rss;
+                found = true;
+            }
+        }
+        return found ? total : -1;
+    }
+
+    /**
+     * Open file descriptors (files, sockets, pipes) of the process and its descendants, or -1 when unreadable
+     */
+    public long openFileDescriptors() {
+        long total = 0;
+        boolean found = false;
+        for (long process : withDescendants(pid)) {
+            try (Stream<Path> fds = Files.list(Paths.get("/proc", String.valueOf(process), "fd"))) {
+                total += fds.count();
+                found = true;
+            } catch (IOException | RuntimeException e) {
+                // Process exited or belongs to another user
+            }
+        }
+        return found ? total : -1;
+    }
+
+    private static String commandLine(Path process) {
+        try {
+            // Arguments are NUL-separated
+            return new String(Files.readAllBytes(process.resolve("cmdline")), StandardCharsets.UTF_8).replace('\0', ' ');
+        } catch (IOException | RuntimeException e) {
+            return "";
+        }
+    }
+
+    private static List<Long> withDescendants(long root) {
+        List<Long> processes = new ArrayList<>();
+        processes.add(root);
+        for (int i = 0; i < processes.size(); i++) {
+            Path tasks = Paths.get("/proc", String.valueOf(processes.get(i)), "task");
+            try (Stream<Path> threads = Files.list(tasks)) {
+                for (Path thread : (Iterable<Path>) threads::iterator) {
+                    String children = Files.readString(thread.resolve("children")).trim();
+                    if (!children.isEmpty()) {
+                        for (String child : children.split("\\s+")) {
+                            processes.add(Long.parseLong(child));
+                        }
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                // Process exited or children file not available
+            }
+        }
+        return processes;
+    }
+
+    private static long vmRss(long process) {
+        try {
+            for (String line : Files.readAllLines(Paths.get("/proc", String.valueOf(process), "status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]", "")) * 1024;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // Process exited
+        }
+        return -1;
+    }
+}
@@ -2,6 +2,7 @@ package com.orderManager;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -10,114 +11,73 @@ import java.util.List;
 /**
  * Tests for adding orders through the form
  */
+@Exercises(routes = {"/", "/orders/add"}, templates = {"index.html"})
 public class AddOrderTest extends BaseTest {
     
     @Test(priority = 1, description = "Test 1: Verify customer and salesman fields are optional")
-    public void testOptionalFields() throws InterruptedException {
-        driver.get(BASE_URL);
+    public void testOptionalFields() {
+        navigateTo(BASE_URL);
         expandAddOrderForm();
         
-        WebElement customerInput = driver.findElement(By.id("customer_name"));
-        WebElement salesmanInput = driver.findElement(By.id("salesman_name"));
-        
         // Check that fields don't have 'required' attribute
-        String customerRequired = customerInput.getAttribute("required");
-        String salesmanRequired = salesmanInput.getAttribute("required");
+        PageSnapshots.Form form = new IndexPage(getDriver()).snapshot().addForm;
         
-        Assert.assertNull(customerRequired, "Customer field should be optional");
-        Assert.assertNull(salesmanRequired, "Salesman field should be optional");
+        Assert.assertFalse(form.isRequired("customer_name"), "Customer field should be optional");
+        Assert.assertFalse(form.isRequired("salesman_name"), "Salesman field should be optional");
         
         System.out.println("✓ Test 1 Passed: Customer and salesman fields are optional");
     }
     
     @Test(priority = 2, description = "Test 2: Add a complete order with all fields")
-    public void testAddCompleteOrder() throws InterruptedException {
-        driver.get(BASE_URL);
+    public void testAddCompleteOrder() {
+        navigateTo(BASE_URL);
         expandAddOrderForm();
         
         String invoiceNum = generateUniqueInvoice("COMPLETE");
         
-        // Fill header fields
-        driver.findElement(By.id("invoice_number")).sendKeys(invoiceNum);
-        driver.findElement(By.id("customer_name")).sendKeys("Complete Test Customer");
-        driver.findElement(By.id("salesman_name")).sendKeys("Complete Test Salesman");
-        
-        Thread.sleep(500);
-        
-        // Fill item fields
-        List<WebElement> skuInputs = driver.findElements(By.name("sku[]"));
-        List<WebElement> descInputs = driver.findElements(By.name("description[]"));
-        List<WebElement> qtyInputs = driver.findElements(By.name("qty[]"));
-        List<WebElement> priceInputs = driver.findElements(By.name("price[]"));
-        
-        Assert.assertTrue(skuInputs.size() >= 1, "Should have at least one item row");
+        // Fill header and item fields in one step
+        int rows = OrderForm.invoice(invoiceNum)
+            .customer("Complete Test Customer")
+            .salesman("Complete Test Salesman")
+            .item("SKU-COMPLETE-001", "Complete Test Product", 2, "150.00")
+            .fill(getDriver());
         
-        skuInputs.get(0).sendKeys("SKU-COMPLETE-001");
-        descInputs.get(0).sendKeys("Complete Test Product");
-        qtyInputs.get(0).clear();
-        qtyInputs.get(0).sendKeys("2");
-        priceInputs.get(0).sendKeys("150.00");
+        Assert.assertEquals(rows, 1, "Should have one item row");
         
         // Submit form
-        WebElement submitBtn = driver.findElement(By.xpath("//button[text()='Save Order']"));
-        submitBtn.click();
-        Thread.sleep(3000);
+        WebElement submitBtn = getDriver().findElement(By.xpath("//button[text()='Save Order']"));
+        submitAndConfirmWrite(submitBtn, WriteConfirmation.insertOf(invoiceNum));
         
         // Verify order appears on page
-        String pageSource = driver.getPageSource();
-        Assert.assertTrue(pageSource.contains(invoiceNum), "Order should appear on page");
-        Assert.assertTrue(pageSource.contains("Complete Test Customer"), "Customer name should appear");
+        IndexPage.Order order = new IndexPage(getDriver()).snapshot().order(invoiceNum).orElse(null);
+        Assert.assertNotNull(order, "Order should appear on page");
+        Assert.assertEquals(order.customerName, "Complete Test Customer", "Customer name should appear");
         
         System.out.println("✓ Test 2 Passed: Complete order added successfully");
     }
     
     @Test(priority = 3, description = "Test 3: Add order with multiple items")
-    public void testAddOrderWithMultipleItems() throws InterruptedException {
-        driver.get(BASE_URL);
+    public void testAddOrderWithMultipleItems() {
+        navigateTo(BASE_URL);
         expandAddOrderForm();
         
         String invoiceNum = generateUniqueInvoice("MULTI");
-        driver.findElement(By.id("invoice_number")).sendKeys(invoiceNum);
-        driver.findElement(By.id("customer_name")).sendKeys("Multi Item Customer");
         
-        Thread.sleep(500);
+        // Fill both items; the second row is added through the page's own addLineItem()
+        int rows = OrderForm.invoice(invoiceNum)
+            .customer("Multi Item Customer")
+            .item("SKU-MULTI-001", "First Item", 1, "100")
+            .item("SKU-MULTI-002", "Second Item", 2, "200")
+            .fill(getDriver());
         
-        // Fill first item
-        List<WebElement> descInputs = driver.findElements(By.name("description[]"));
-        List<WebElement> qtyInputs = driver.findElements(By.name("qty[]"));
-        List<WebElement> priceInputs = driver.findElements(By.name("price[]"));
-        
-        descInputs.get(0).sendKeys("First Item");
-        qtyInputs.get(0).clear();
-        qtyInputs.get(0).sendKeys("1");
-        priceInputs.get(0).clear();
-        priceInputs.get(0).sendKeys("100");
-        
-        // Click Add Item button
-        WebElement addItemBtn = driver.findElement(By.xpath("//button[contains(text(), '+ Add Item')]"));
-        addItemBtn.click();
-        Thread.sleep(500);
-        
-        // Fill second item
-        descInputs = driver.findElements(By.name("description[]"));
-        qtyInputs = driver.findElements(By.name("qty[]"));
-        priceInputs = driver.findElements(By.name("price[]"));
-        
-        Assert.assertTrue(descInputs.size() >= 2, "Should have at least 2 item rows");
-        
-        descInputs.get(1).sendKeys("Second Item");
-        qtyInputs.get(1).clear();
-        qtyInputs.get(1).sendKeys("2");
-        priceInputs.get(1).clear();
-        priceInputs.get(1).sendKeys("200");
+        Assert.assertTrue(rows >= 2, "Should have at least 2 item rows");
         
         // Submit
-        WebElement submitBtn = driver.findElement(By.xpath("//button[text()='Save Order']"));
-        submitBtn.click();
-        Thread.sleep(3000);
+        WebElement submitBtn = getDriver().findElement(By.xpath("//button[text()='Save Order']"));
+        submitAndConfirmWrite(submitBtn, WriteConfirmation.insertOf(invoiceNum));
         
         // Verify successful submission
-        String currentUrl = driver.getCurrentUrl();
+        String currentUrl = getDriver().getCurrentUrl();
         Assert.assertTrue(currentUrl.equals(BASE_URL + "/") || currentUrl.equals(BASE_URL),
                          "Should redirect to homepage after submission");
         
@@ -125,33 +85,23 @@ public class AddOrderTest extends BaseTest {
     }
     
     @Test(priority = 4, description = "Test 4: Add order with optional fields empty")
-    public void testAddOrderWithOptionalFieldsEmpty() throws InterruptedException {
-        driver.get(BASE_URL);
+    public void testAddOrderWithOptionalFieldsEmpty() {
+        navigateTo(BASE_URL);
         expandAddOrderForm();
         
         String invoiceNum = generateUniqueInvoice("OPTIONAL");
-        driver.findElement(By.id("invoice_number")).sendKeys(invoiceNum);
-        
-        Thread.sleep(500);
         
         // Fill only item (no customer/salesman)
-        List<WebElement> descInputs = driver.findElements(By.name("description[]"));
-        List<WebElement> qtyInputs = driver.findElements(By.name("qty[]"));
-        List<WebElement> priceInputs = driver.findElements(By.name("price[]"));
-        
-        descInputs.get(0).sendKeys("Optional Fields Test Item");
-        qtyInputs.get(0).clear();
-        qtyInputs.get(0).sendKeys("1");
-        priceInputs.get(0).clear();
-        priceInputs.get(0).sendKeys("75");
+        OrderForm.invoice(invoiceNum)
+            .item("SKU-OPTIONAL-001", "Optional Fields Test Item", 1, "75")
+            .fill(getDriver());
         
         // Submit
-        WebElement submitBtn = driver.findElement(By.xpath("//button[text()='Save Order']"));
-        submitBtn.click();
-        Thread.sleep(3000);
+        WebElement submitBtn = getDriver().findElement(By.xpath("//button[text()='Save Order']"));
+        submitAndConfirmWrite(submitBtn, WriteConfirmation.insertOf(invoiceNum));
         
         // Verify successful submission
-        String currentUrl = driver.getCurrentUrl();
+        String currentUrl = getDriver().getCurrentUrl();
         Assert.assertTrue(currentUrl.equals(BASE_URL + "/") || currentUrl.equals(BASE_URL),
                          "Should redirect to homepage after submission");
         
@@ -159,21 +109,21 @@ public class AddOrderTest extends BaseTest {
     }
     
     @Test(priority = 5, description = "Test add item button functionality")
-    public void testAddItemButton() throws InterruptedException {
-        driver.get(BASE_URL);
+    public void testAddItemButton() {
+        navigateTo(BASE_URL);
         expandAddOrderForm();
         
         // Count initial item rows
-        List<WebElement> initialRows = driver.findElements(By.name("description[]"));
+        List<WebElement> initialRows = getDriver().findElements(By.name("description[]"));
         int initialCount = initialRows.size();
         
         // Click Add Item button
-        WebElement addItemBtn = driver.findElement(By.xpath("//button[contains(text(), '+ Add Item')]"));
+        WebElement addItemBtn = getDriver().findElement(By.xpath("//button[contains(text(), '+ Add Item')]"));
         addItemBtn.click();
-        Thread.sleep(500);
+        getWait().until(ExpectedConditions.numberOfElementsToBeMoreThan(By.name("description[]"), initialCount));
         
         // Count rows after adding
-        List<WebElement> afterRows = driver.findElements(By.name("description[]"));
+        List<WebElement> afterRows = getDriver().findElements(By.name("description[]"));
         Assert.assertTrue(afterRows.size() > initialCount, "Should add a new item row");
         
         System.out.println("✓ Test 5 Passed: Add item button works correctly");
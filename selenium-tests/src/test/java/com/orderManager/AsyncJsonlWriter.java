@@ -0,0 +1,107 @@
+package com.orderManager;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Appends JSON lines to a file from a background thread so that callers never block on I/O.
+ * Producers only enqueue onto a lock-free queue and wake the writer if it is parked.
+ * One writer exists per file; all of them are flushed and closed by {@link #closeAll()},
+ * which {@link TestEventListener} calls when the TestNG run finishes.
+ */
+public final class AsyncJsonlWriter {
+    private static final Map<Path, AsyncJsonlWriter> WRITERS = new ConcurrentHashMap<>();
+    // Upper bound on how long a line can wait if a wake-up races with the writer parking
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final Path file;
+    private final Queue<String> queue = new ConcurrentLinkedQueue<>();
+    private final Thread worker;
+    private volatile boolean parked;
+    private volatile boolean closed;
+
+    private AsyncJsonlWriter(Path file) {
+        this.file = file;
+        this.worker = new Thread(this::drain, "jsonl-writer-" + file.getFileName());
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Shared writer for a file, created (and the file truncated) on first use
+     */
+    public static AsyncJsonlWriter forFile(Path file) {
+        return WRITERS.computeIfAbsent(file.toAbsolutePath(), AsyncJsonlWriter::new);
+    }
+
+    /**
+     * Queue one JSON document; never blocks
+     */
+    public void write(String json) {
+        if (!json.isEmpty() && !closed) {
+            queue.offer(json);
+            if (parked) {
+                LockSupport.unpark(worker);
+            }
+        }
+    }
+
+    /**
+     * Flush and close every writer, waiting for queued lines to reach disk
+     */
+    public static void closeAll() {
+        List<AsyncJsonlWriter> writers = new ArrayList<>(WRITERS.values());
+        WRITERS.clear();
+        for (AsyncJsonlWriter writer : writers) {
+            writer.closed = true;
+            LockSupport.unpark(writer.worker);
+        }
+        for (AsyncJsonlWriter writer : writers) {
+            try {
+                writer.worker.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            Files.createDirectories(file.getParent());
+            try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                while (true) {
+                    // Read closed before draining so nothing queued ahead of close() is left behind
+                    boolean last = closed;
+                    String line;
+                    while ((line = queue.poll()) != null) {
+                        out.write(line);
+                        out.newLine();
+                    }
+                    out.flush();
+                    if (last) {
+                        return;
+                    }
+                    parked = true;
+                    if (queue.isEmpty() && !closed) {
+                        LockSupport.parkNanos(this, MAX_PARK_NANOS);
+                    }
+                    parked = false;
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Warning: Could not write " + file + " - " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.orderManager;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Base class for tests that only inspect server-rendered HTML.
+ * Pages are fetched over plain HTTP and parsed with jsoup, so no browser is started.
+ */
+public abstract class BaseHttpTest {
+    protected static final String BASE_URL = BaseTest.BASE_URL;
+
+    private static final HttpClient HTTP = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(5))
+        .followRedirects(HttpClient.Redirect.NORMAL)
+        .build();
+
+    /**
+     * Helper method to GET a page and parse it
+     */
+    protected HttpPage fetch(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(BASE_URL + path))
+            .timeout(Duration.ofSeconds(10))
+            .GET()
+            .build();
+        long started = System.nanoTime();
+        HttpResponse<String> response = HTTP.send(request, HttpResponse.BodyHandlers.ofString());
+        long elapsedNanos = System.nanoTime() - started;
+        return new HttpPage(response.statusCode(), response.body(),
+            Jsoup.parse(response.body(), response.uri().toString()), elapsedNanos);
+    }
+
+    /**
+     * A fetched page: status, raw HTML, parsed DOM and response time
+     */
+    public static final class HttpPage {
+        public final int status;
+        public final String html;
+        public final Document dom;
+        public final long elapsedNanos;
+
+        HttpPage(int status, String html, Document dom, long elapsedNanos) {
+            this.status = status;
+            this.html = html;
+            this.dom = dom;
+            this.elapsedNanos = elapsedNanos;
+        }
+    }
+}
@@ -3,101 +3,185 @@ package com.orderManager;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.testng.annotations.*;
-import com.mongodb.client.MongoClient;
-import com.mongodb.client.MongoClients;
-import com.mongodb.client.MongoDatabase;
 
+import java.lang.reflect.Method;
 import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Base test class containing setup, teardown and common utilities
  */
 public abstract class BaseTest {
-    protected WebDriver driver;
-    protected WebDriverWait wait;
+    private static final ThreadLocal<WebDriver> DRIVER = new ThreadLocal<>();
+    private static final ThreadLocal<WebDriverWait> WAIT = new ThreadLocal<>();
+    private static final ThreadLocal<NetworkRecorder> NETWORK = new ThreadLocal<>();
+    private static final AtomicLong INVOICE_SEQUENCE = new AtomicLong();
     protected static final String BASE_URL = System.getenv().getOrDefault("APP_URL", "http://localhost:8000");
-    protected static final String MONGO_URI = System.getenv("TEST_MONGO_URI");
+    protected static final String MONGO_URI = TestDatabase.URI;
     
-    @BeforeSuite
+    @BeforeSuite(alwaysRun = true)
     public void setupDatabase() {
-        // Clear test database before running tests
-        if (MONGO_URI != null && !MONGO_URI.isEmpty()) {
-            try (MongoClient mongoClient = MongoClients.create(MONGO_URI)) {
-                MongoDatabase database = mongoClient.getDatabase("order_management_test_db");
-                database.getCollection("orders").deleteMany(new org.bson.Document());
-                System.out.println("✓ Test database cleared");
+        // Start from an empty namespace owned by this run; ShardRunner does this once for all shards
+        TestDatabase.requireName();
+        if (TestDatabase.isConfigured() && !ShardSelector.isSharded()) {
+            try {
+                TestDatabase.drop();
+                System.out.println("✓ Test database " + TestDatabase.NAME + " reset");
             } catch (Exception e) {
-                System.err.println("Warning: Could not clear test database - " + e.getMessage());
+                System.err.println("Warning: Could not reset test database - " + e.getMessage());
             }
         }
     }
     
-    @BeforeMethod
-    public void setup() {
-        ChromeOptions options = new ChromeOptions();
-        options.addArguments("--headless=new");
-        options.addArguments("--no-sandbox");
-        options.addArguments("--disable-dev-shm-usage");
-        options.addArguments("--disable-gpu");
-        options.addArguments("--window-size=1920,1080");
-        options.addArguments("--disable-blink-features=AutomationControlled");
-        options.addArguments("--remote-allow-origins=*");
-        
-        driver = new ChromeDriver(options);
-        wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
+    @BeforeMethod(alwaysRun = true)
+    public void setup(Method method) {
+        TestEvents.begin(getClass().getSimpleName(), method.getName());
+        long acquireStart = System.nanoTime();
+        BrowserProfile profile = browserProfile();
+        WebDriver driver = DriverPool.acquire(profile);
+        TestEvents.record("acquire", acquireStart, profile.name());
+        // No implicit wait: it stacks with explicit waits, which are used everywhere instead
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        DRIVER.set(driver);
+        WebDriverWait wait = new TimedWait(driver, Duration.ofSeconds(10));
+        wait.pollingEvery(Waits.POLL_INTERVAL);
+        WAIT.set(wait);
+        NETWORK.set(NetworkRecorder.start(driver, getClass().getSimpleName(), method.getName()));
     }
     
-    @AfterMethod
+    @AfterMethod(alwaysRun = true)
     public void tearDown() {
-        if (driver != null) {
-            driver.quit();
+        long teardownStart = System.nanoTime();
+        NetworkRecorder network = NETWORK.get();
+        if (network != null) {
+            network.stop();
         }
+        NETWORK.remove();
+        DriverPool.release(DRIVER.get());
+        DRIVER.remove();
+        WAIT.remove();
+        TestEvents.record("teardown", teardownStart, null);
+        TestEvents.end();
     }
     
-    @AfterSuite
+    /**
+     * Browser profile for this class; override to return FULL for visual checks
+     */
+    protected BrowserProfile browserProfile() {
+        return BrowserProfile.configured();
+    }
+    
+    /**
+     * Driver bound to the current test thread
+     */
+    protected WebDriver getDriver() {
+        return DRIVER.get();
+    }
+    
+    /**
+     * Explicit wait bound to the current test thread's driver
+     */
+    protected WebDriverWait getWait() {
+        return WAIT.get();
+    }
+    
+    @AfterSuite(alwaysRun = true)
     public void cleanupDatabase() {
-        // Cleanup test database after all tests
-        if (MONGO_URI != null && !MONGO_URI.isEmpty()) {
-            try (MongoClient mongoClient = MongoClients.create(MONGO_URI)) {
-                MongoDatabase database = mongoClient.getDatabase("order_management_test_db");
-                database.getCollection("orders").deleteMany(new org.bson.Document());
-                System.out.println("✓ Test database cleaned up");
-            } catch (Exception e) {
-                System.err.println("Warning: Could not cleanup test database - " + e.getMessage());
+        // Remove the whole namespace with a single dropDatabase
+        if (TestDatabase.isConfigured()) {
+            if (!ShardSelector.isSharded()) {
+                try {
+                    TestDatabase.drop();
+                    System.out.println("✓ Test database " + TestDatabase.NAME + " dropped");
+                } catch (Exception e) {
+                    System.err.println("Warning: Could not cleanup test database - " + e.getMessage());
+                }
             }
+            TestDatabase.close();
+        }
+        DriverPool.shutdown();
+        PageTimings.report();
+        WriteConfirmation.report();
+    }
+    
+    /**
+     * Helper method to open a page and wait until it has loaded
+     */
+    protected void navigateTo(String url) {
+        long navigateStart = System.nanoTime();
+        getDriver().get(url);
+        TestEvents.record("navigate", navigateStart, url);
+        getWait().until(Waits.navigationComplete());
+        PageTimings.record(getDriver(), browserProfile());
+    }
+    
+    /**
+     * Helper method to click a link or button that loads a new page
+     */
+    protected void clickAndWaitForPage(WebElement element, String... expectedUrls) {
+        WebElement currentPage = getDriver().findElement(By.tagName("html"));
+        element.click();
+        getWait().until(Waits.redirectLanded(currentPage, expectedUrls));
+        PageTimings.record(getDriver(), browserProfile());
+    }
+    
+    /**
+     * Helper method to submit a form and wait for the redirect back to the homepage
+     */
+    protected void submitAndWaitForHomepage(WebElement submitButton) {
+        clickAndWaitForPage(submitButton, BASE_URL, BASE_URL + "/");
+    }
+    
+    /**
+     * Helper method to click a control that writes an order, wait until MongoDB has the write
+     * and then until the browser shows the resulting page
+     */
+    protected void clickAndConfirmWrite(WebElement element, WriteConfirmation write, String... expectedUrls) {
+        try (write) {
+            WebElement currentPage = getDriver().findElement(By.tagName("html"));
+            write.submitted();
+            element.click();
+            write.await(Duration.ofSeconds(10));
+            getWait().until(Waits.redirectLanded(currentPage, expectedUrls));
+            write.visible();
+            PageTimings.record(getDriver(), browserProfile());
         }
     }
     
+    /**
+     * Helper method to submit an order form and confirm the write before the homepage has loaded
+     */
+    protected void submitAndConfirmWrite(WebElement submitButton, WriteConfirmation write) {
+        clickAndConfirmWrite(submitButton, write, BASE_URL, BASE_URL + "/");
+    }
+    
     /**
      * Helper method to expand add order form
      */
-    protected void expandAddOrderForm() throws InterruptedException {
-        WebElement details = driver.findElement(By.tagName("details"));
+    protected void expandAddOrderForm() {
+        WebElement details = getDriver().findElement(By.tagName("details"));
         WebElement summary = details.findElement(By.tagName("summary"));
         String openAttr = details.getAttribute("open");
         if (openAttr == null || !openAttr.equals("true")) {
             summary.click();
-            Thread.sleep(500);
+            getWait().until(Waits.detailsOpen(details));
         }
     }
     
     /**
-     * Helper method to generate unique invoice number
+     * Helper method to generate unique invoice number, also across parallel threads
      */
     protected String generateUniqueInvoice(String prefix) {
-        return prefix + "-" + System.currentTimeMillis();
+        return prefix + "-" + System.currentTimeMillis() + "-" + INVOICE_SEQUENCE.incrementAndGet();
     }
     
     /**
      * Helper method to override confirm dialogs
      */
     protected void overrideConfirm() {
-        ((org.openqa.selenium.JavascriptExecutor) driver)
+        ((org.openqa.selenium.JavascriptExecutor) getDriver())
             .executeScript("window.confirm = function(){return true;}");
     }
 }
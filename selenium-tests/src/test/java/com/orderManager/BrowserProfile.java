@@ -0,0 +1,80 @@
+package com.orderManager;
+
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumDriver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * How a pooled Chrome session is configured.
+ * LEAN returns from navigation at DOMContentLoaded, runs without extensions or background
+ * services and blocks uploaded images and web fonts; use it for DOM and form assertions.
+ * FULL loads every resource and waits for the load event; use it for visual checks.
+ * The suite default comes from -Dbrowser.profile (lean or full, default lean).
+ */
+public enum BrowserProfile {
+    LEAN,
+    FULL;
+
+    // Network.setBlockedURLs patterns; extend with -Dbrowser.blockedUrls=pattern,pattern
+    private static final List<String> BLOCKED_URLS = List.of(
+        "*/static/uploads/*",
+        "*.woff", "*.woff2", "*.ttf", "*.otf", "*.eot",
+        "*fonts.googleapis.com*", "*fonts.gstatic.com*");
+
+    /**
+     * Profile selected for this run
+     */
+    public static BrowserProfile configured() {
+        return valueOf(System.getProperty("browser.profile", "lean").trim().toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Add this profile's capabilities and switches to the common Chrome options
+     */
+    ChromeOptions configure(ChromeOptions options) {
+        if (this == LEAN) {
+            options.setPageLoadStrategy(PageLoadStrategy.EAGER);
+            options.addArguments("--disable-extensions");
+            options.addArguments("--disable-component-extensions-with-background-pages");
+            options.addArguments("--disable-background-networking");
+            options.addArguments("--disable-component-update");
+            options.addArguments("--disable-default-apps");
+            options.addArguments("--disable-sync");
+            options.addArguments("--no-first-run");
+            options.addArguments("--disable-features=Translate,OptimizationHints,MediaRouter");
+        } else {
+            options.setPageLoadStrategy(PageLoadStrategy.NORMAL);
+        }
+        return options;
+    }
+
+    /**
+     * Apply the per-session DevTools settings; blocking survives navigations for the life of the tab
+     */
+    void prepare(WebDriver driver) {
+        if (this != LEAN || !(driver instanceof ChromiumDriver)) {
+            return;
+        }
+        ChromiumDriver chromium = (ChromiumDriver) driver;
+        try {
+            chromium.executeCdpCommand("Network.enable", Map.of());
+            chromium.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", blockedUrls()));
+        } catch (Exception e) {
+            System.err.println("Warning: Could not block resources in lean profile - " + e.getMessage());
+        }
+    }
+
+    static List<String> blockedUrls() {
+        List<String> urls = new ArrayList<>(BLOCKED_URLS);
+        String extra = System.getProperty("browser.blockedUrls", "");
+        Arrays.stream(extra.split(",")).map(String::trim).filter(s -> !s.isEmpty()).forEach(urls::add);
+        return urls;
+    }
+}
@@ -0,0 +1,151 @@
+package com.orderManager;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.testng.Assert;
+import org.testng.ITestContext;
+import org.testng.SkipException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs the homepage, items and search pages against growing datasets (0, 10k, 100k and 1M
+ * orders by default) and records server response time, HTML size and DOM node count at each
+ * tier, to show which page breaks first as the data grows. Tiers are seeded cumulatively with
+ * {@link OrderSeeder} into the test database, which the app must be reading (TEST_MODE with
+ * the same TEST_DB_NAME). Growing or resetting a tier rewrites the run's orders collection, so
+ * it only runs when scaling is the only group selected and no other class shares the database.
+ * Run with: mvn test -Dgroups=scaling -Dtest.excludedGroups= -Dscaling.tiers=0,10000,100000
+ */
+@Exercises(routes = {"/", "/items", "/search"}, templates = {"index.html", "items.html"})
+public class DatasetScalingTest extends BaseTest {
+    private static final Path REPORT = Paths.get("target", "dataset-scaling" + ShardSelector.fileSuffix() + ".csv");
+    private static final int SAMPLES = Integer.getInteger("scaling.samples", 5);
+    private static final double BUDGET_MS = Double.parseDouble(System.getProperty("scaling.budgetMs", "2000"));
+    private static final OrderGenerator GENERATOR = new OrderGenerator(42);
+    
+    // Scenario name -> path; the searches use a common surname and an invoice prefix of the generated data
+    private static final Map<String, String> SCENARIOS = new LinkedHashMap<>();
+    
+    static {
+        SCENARIOS.put("homepage", "/");
+        SCENARIOS.put("items", "/items");
+        SCENARIOS.put("homepage_search", "/?search=Khan");
+        SCENARIOS.put("search", "/search?q=SEED-42-0000");
+    }
+    
+    private static final HttpClient HTTP = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+    
+    private static final List<String> ROWS = new ArrayList<>();
+    private static long seeded = -1;
+    
+    @BeforeClass(alwaysRun = true)
+    public void requireExclusiveRun(ITestContext context) {
+        List<String> groups = Arrays.asList(context.getIncludedGroups());
+        if (!groups.equals(List.of("scaling"))) {
+            throw new SkipException("Dataset scaling drops and reseeds the shared orders collection; "
+                + "run it on its own with -Dgroups=scaling (selected: " + groups + ")");
+        }
+    }
+    
+    @DataProvider(name = "tiers")
+    public Object[][] tiers() {
+        List<Object[]> matrix = new ArrayList<>();
+        Arrays.stream(System.getProperty("scaling.tiers", "0,10000,100000,1000000").split(","))
+            .map(tier -> Long.parseLong(tier.trim().replace("_", "")))
+            .sorted()
+            .forEach(tier -> SCENARIOS.keySet().forEach(scenario -> matrix.add(new Object[]{tier, scenario})));
+        return matrix.toArray(new Object[0][]);
+    }
+    
+    @Test(groups = "scaling", dataProvider = "tiers",
+          description = "Scaling: page cost per dataset size")
+    public void measurePageAtTier(long tier, String scenario) throws Exception {
+        if (!TestDatabase.isConfigured()) {
+            throw new SkipException("Dataset scaling needs TEST_MONGO_URI to seed the app's database");
+        }
+        ensureTier(tier);
+        String url = BASE_URL + SCENARIOS.get(scenario);
+        
+        // Server side: full response time over plain HTTP, after one warm-up request
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofMinutes(2)).GET().build();
+        HttpResponse<byte[]> response = HTTP.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        Assert.assertEquals(response.statusCode(), 200, scenario + " should render at " + tier + " orders");
+        List<Double> serverMs = new ArrayList<>();
+        for (int i = 0; i < SAMPLES; i++) {
+            long started = System.nanoTime();
+            response = HTTP.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            serverMs.add((System.nanoTime() - started) / 1e6);
+        }
+        int htmlBytes = response.body().length;
+        
+        // Browser side: the same page's DOM size
+        navigateTo(url);
+        long domNodes = ((Number) ((JavascriptExecutor) getDriver())
+            .executeScript("return document.getElementsByTagName('*').length;")).longValue();
+        
+        double p50 = Stats.percentile(serverMs, 50);
+        double p95 = Stats.percentile(serverMs, 95);
+        synchronized (ROWS) {
+            ROWS.add(String.format("%d,%s,%d,%.1f,%.1f,%d,%d", tier, scenario, serverMs.size(), p50, p95, htmlBytes, domNodes));
+        }
+        System.out.printf("✓ Scaling: %-16s %,9d orders  server p50 %8.1f ms  p95 %8.1f ms  html %,11d B  dom %,8d nodes%n",
+            scenario, tier, p50, p95, htmlBytes, domNodes);
+        Assert.assertTrue(p50 <= BUDGET_MS,
+            String.format("%s at %d orders took %.1f ms (p50), budget is %.0f ms", scenario, tier, p50, BUDGET_MS));
+    }
+    
+    @AfterClass(alwaysRun = true)
+    public void reportScaling() {
+        if (ROWS.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(REPORT.getParent());
+            try (PrintWriter csv = new PrintWriter(Files.newBufferedWriter(REPORT))) {
+                csv.println("orders,scenario,samples,server_p50_ms,server_p95_ms,html_bytes,dom_nodes");
+                ROWS.forEach(csv::println);
+            }
+        } catch (IOException e) {
+            System.err.println("Warning: Could not write dataset scaling report - " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Helper method to grow the orders collection to exactly {@code tier} generated orders
+     */
+    private static synchronized void ensureTier(long tier) {
+        if (seeded == tier) {
+            return;
+        }
+        if (seeded < 0 || seeded > tier) {
+            TestDatabase.orders().drop();
+            seeded = 0;
+        }
+        long started = System.nanoTime();
+        OrderSeeder.seed(TestDatabase.orders(), GENERATOR, seeded, tier - seeded,
+            OrderSeeder.DEFAULT_BATCH_SIZE, Runtime.getRuntime().availableProcessors());
+        System.out.printf("Seeded %,d orders up to the %,d tier in %.1f s%n",
+            tier - seeded, tier, (System.nanoTime() - started) / 1e9);
+        seeded = tier;
+    }
+}
@@ -0,0 +1,140 @@
+package com.orderManager;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Suite-wide pool of warm headless Chrome sessions, kept separately per {@link BrowserProfile}.
+ * Sessions are handed out per test, reset cheaply on release and only
+ * replaced when they stop responding.
+ */
+public final class DriverPool {
+    private static final Map<BrowserProfile, ConcurrentLinkedDeque<WebDriver>> IDLE = new EnumMap<>(BrowserProfile.class);
+    private static final Map<WebDriver, BrowserProfile> PROFILES = new ConcurrentHashMap<>();
+    private static final ConcurrentLinkedQueue<WebDriver> ALL = new ConcurrentLinkedQueue<>();
+
+    static {
+        for (BrowserProfile profile : BrowserProfile.values()) {
+            IDLE.put(profile, new ConcurrentLinkedDeque<>());
+        }
+        // Make sure no Chrome process outlives the JVM if @AfterSuite never runs
+        Runtime.getRuntime().addShutdownHook(new Thread(DriverPool::shutdown, "driver-pool-shutdown"));
+    }
+
+    private DriverPool() {
+    }
+
+    /**
+     * Hand out a healthy session of the given profile, reusing an idle one when available
+     */
+    public static WebDriver acquire(BrowserProfile profile) {
+        WebDriver driver;
+        while ((driver = IDLE.get(profile).pollFirst()) != null) {
+            if (isHealthy(driver)) {
+                return driver;
+            }
+            discard(driver);
+        }
+        return create(profile);
+    }
+
+    /**
+     * Reset a session and return it to the pool; broken sessions are discarded
+     */
+    public static void release(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        try {
+            reset(driver);
+            IDLE.get(PROFILES.get(driver)).offerFirst(driver);
+        } catch (Exception e) {
+            System.err.println("Warning: Discarding browser session after failed reset - " + e.getMessage());
+            discard(driver);
+        }
+    }
+
+    /**
+     * Quit every session the pool has created
+     */
+    public static void shutdown() {
+        IDLE.values().forEach(ConcurrentLinkedDeque::clear);
+        PROFILES.clear();
+        WebDriver driver;
+        while ((driver = ALL.poll()) != null) {
+            try {
+                driver.quit();
+            } catch (Exception ignored) {
+                // Session already gone
+            }
+        }
+    }
+
+    private static WebDriver create(BrowserProfile profile) {
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--headless=new");
+        options.addArguments("--no-sandbox");
+        options.addArguments("--disable-dev-shm-usage");
+        options.addArguments("--disable-gpu");
+        options.addArguments("--window-size=1920,1080");
+        options.addArguments("--disable-blink-features=AutomationControlled");
+        options.addArguments("--remote-allow-origins=*");
+
+        WebDriver driver = new ChromeDriver(profile.configure(options));
+        ALL.add(driver);
+        PROFILES.put(driver, profile);
+        profile.prepare(driver);
+        return driver;
+    }
+
+    /**
+     * Bring a session back to a blank state: one window, no cookies, no storage
+     */
+    private static void reset(WebDriver driver) {
+        Set<String> handles = driver.getWindowHandles();
+        String keep = handles.iterator().next();
+        for (String handle : handles) {
+            if (!handle.equals(keep)) {
+                driver.switchTo().window(handle).close();
+            }
+        }
+        driver.switchTo().window(keep);
+
+        // Storage is per-origin, so clear it before leaving the app's page
+        if (driver.getCurrentUrl().startsWith("http")) {
+            ((JavascriptExecutor) driver).executeScript(
+                "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            driver.manage().deleteAllCookies();
+        }
+        driver.get("about:blank");
+    }
+
+    private static boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandles();
+            return Long.valueOf(1L).equals(((JavascriptExecutor) driver).executeScript("return 1;"));
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static void discard(WebDriver driver) {
+        ALL.remove(driver);
+        PROFILES.remove(driver);
+        NetworkRecorder.detach(driver);
+        try {
+            driver.quit();
+        } catch (Exception ignored) {
+            // Session already gone
+        }
+    }
+}
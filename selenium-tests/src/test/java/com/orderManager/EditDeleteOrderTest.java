@@ -1,5 +1,6 @@
 package com.orderManager;
 
+import com.mongodb.client.model.Filters;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import org.testng.Assert;
@@ -10,141 +11,119 @@ import java.util.List;
 /**
  * Tests for editing and deleting orders
  */
+@Exercises(routes = {"/", "/orders/{order_id}/edit", "/orders/{order_id}/update", "/orders/{order_id}/delete"}, templates = {"index.html", "edit.html"})
 public class EditDeleteOrderTest extends BaseTest {
     
     @Test(priority = 1, description = "Test 1: Verify order details can be expanded")
-    public void testOrderDetailsExpansion() throws InterruptedException {
-        driver.get(BASE_URL);
-        Thread.sleep(1000);
-        
-        // Find details elements (orders with items)
-        List<WebElement> detailsElements = driver.findElements(By.tagName("details"));
-        
-        // Find order details (not the add form)
-        WebElement orderDetails = null;
-        for (WebElement details : detailsElements) {
-            if (details.getText().contains("Items (")) {
-                orderDetails = details;
-                break;
-            }
-        }
+    public void testOrderDetailsExpansion() {
+        String invoiceNum = generateUniqueInvoice("EXPAND");
+        OrderFixtures.create(OrderFixtures.order(invoiceNum, 2));
+        navigateTo(BASE_URL);
         
-        if (orderDetails != null) {
-            WebElement summary = orderDetails.findElement(By.tagName("summary"));
-            summary.click();
-            Thread.sleep(500);
-            
-            // Verify items are visible
-            List<WebElement> itemsList = orderDetails.findElements(By.className("item-detail"));
-            Assert.assertTrue(itemsList.size() > 0, "Should show item details when expanded");
-            
-            System.out.println("✓ Test 1 Passed: Order details expand correctly");
-        } else {
-            System.out.println("⚠ Test 1 Skipped: No orders with items to expand");
-        }
+        // One snapshot instead of a getText() round trip per details element
+        IndexPage page = new IndexPage(getDriver());
+        int orderIndex = orderIndex(page.snapshot().orders, invoiceNum);
+        
+        WebElement orderDetails = page.orderDetails(orderIndex);
+        WebElement summary = orderDetails.findElement(By.tagName("summary"));
+        summary.click();
+        getWait().until(Waits.detailsOpen(orderDetails));
+        
+        // Verify items are visible
+        IndexPage.Order expanded = page.snapshot().orders.get(orderIndex);
+        Assert.assertTrue(expanded.detailsOpen, "Order details should be open");
+        Assert.assertEquals(expanded.visibleItemCount(), 2L, "Should show item details when expanded");
+        
+        System.out.println("✓ Test 1 Passed: Order details expand correctly");
     }
     
     @Test(priority = 2, description = "Test 2: Edit order functionality")
-    public void testEditOrder() throws InterruptedException {
-        driver.get(BASE_URL);
-        Thread.sleep(1000);
-        
-        // Find edit button
-        List<WebElement> editButtons = driver.findElements(By.linkText("Edit"));
-        
-        if (!editButtons.isEmpty()) {
-            editButtons.get(0).click();
-            Thread.sleep(2000);
-            
-            // Verify we're on edit page
-            Assert.assertTrue(driver.getPageSource().contains("Edit Order"), 
-                             "Should navigate to edit page");
-            
-            // Modify customer name
-            WebElement customerField = driver.findElement(By.name("customer_name"));
-            customerField.clear();
-            customerField.sendKeys("Updated Customer");
-            
-            // Submit update
-            WebElement updateBtn = driver.findElement(By.xpath("//button[text()='Update Order']"));
-            updateBtn.click();
-            Thread.sleep(3000);
-            
-            // Verify update
-            Assert.assertTrue(driver.getPageSource().contains("Updated Customer"), 
-                             "Customer name should be updated");
-            
-            System.out.println("✓ Test 2 Passed: Order edited successfully");
-        } else {
-            System.out.println("⚠ Test 2 Skipped: No orders to edit");
-        }
+    public void testEditOrder() {
+        String invoiceNum = generateUniqueInvoice("EDIT");
+        String orderId = OrderFixtures.create(OrderFixtures.order(invoiceNum, 1)).get(0);
+        navigateTo(BASE_URL);
+        
+        // Find the fixture's edit button
+        WebElement editButton = getDriver().findElement(By.cssSelector("a[href='/orders/" + orderId + "/edit']"));
+        clickAndWaitForPage(editButton);
+        
+        // Verify we're on edit page
+        EditPage.Snapshot editPage = new EditPage(getDriver()).snapshot();
+        Assert.assertTrue(editPage.isEditPage(), "Should navigate to edit page");
+        Assert.assertEquals(editPage.orderId, orderId, "Should edit the selected order");
+        
+        // Modify customer name
+        WebElement customerField = getDriver().findElement(By.name("customer_name"));
+        customerField.clear();
+        customerField.sendKeys("Updated Customer");
+        
+        // Submit update
+        WebElement updateBtn = getDriver().findElement(By.xpath("//button[text()='Update Order']"));
+        submitAndConfirmWrite(updateBtn,
+            WriteConfirmation.updateOf(orderId, Filters.eq("customer_name", "Updated Customer")));
+        
+        // Verify update
+        IndexPage.Order updated = new IndexPage(getDriver()).snapshot().order(invoiceNum).orElse(null);
+        Assert.assertNotNull(updated, "Edited order should still be listed");
+        Assert.assertEquals(updated.customerName, "Updated Customer", "Customer name should be updated");
+        
+        System.out.println("✓ Test 2 Passed: Order edited successfully");
     }
     
     @Test(priority = 3, description = "Test 3: Delete order functionality")
-    public void testDeleteOrder() throws InterruptedException {
-        driver.get(BASE_URL);
-        Thread.sleep(1000);
-        
-        // Count orders before deletion
-        List<WebElement> ordersBefore = driver.findElements(By.className("order-item"));
-        int countBefore = ordersBefore.size();
-        
-        if (countBefore > 0) {
-            // Override confirm dialog
-            overrideConfirm();
-            
-            // Find and click delete button
-            List<WebElement> deleteButtons = driver.findElements(
-                By.xpath("//button[contains(text(), 'Delete')]")
-            );
-            
-            if (!deleteButtons.isEmpty()) {
-                deleteButtons.get(0).click();
-                Thread.sleep(3000);
-                
-                // Verify order count decreased
-                List<WebElement> ordersAfter = driver.findElements(By.className("order-item"));
-                Assert.assertTrue(ordersAfter.size() < countBefore || ordersAfter.size() == 0,
-                                 "Order count should decrease after deletion");
-                
-                System.out.println("✓ Test 3 Passed: Order deleted successfully");
-            } else {
-                System.out.println("⚠ Test 3 Skipped: Delete button not found");
-            }
-        } else {
-            System.out.println("⚠ Test 3 Skipped: No orders to delete");
-        }
+    public void testDeleteOrder() {
+        String invoiceNum = generateUniqueInvoice("DELETE");
+        String orderId = OrderFixtures.create(OrderFixtures.order(invoiceNum, 1)).get(0);
+        navigateTo(BASE_URL);
+        Assert.assertTrue(new IndexPage(getDriver()).snapshot().order(invoiceNum).isPresent(),
+                         "Order to delete should be listed");
+        
+        // Override confirm dialog
+        overrideConfirm();
+        
+        // Deletion goes through fetch() and then reloads the page
+        WebElement deleteButton = getDriver().findElement(
+            By.cssSelector("button[onclick=\"deleteOrder('" + orderId + "')\"]"));
+        clickAndConfirmWrite(deleteButton, WriteConfirmation.deleteOf(orderId));
+        
+        // Verify the order is gone; other classes may add orders in parallel, so counts are not compared
+        Assert.assertFalse(new IndexPage(getDriver()).snapshot().order(invoiceNum).isPresent(),
+                          "Deleted order should no longer be listed");
+        
+        System.out.println("✓ Test 3 Passed: Order deleted successfully");
     }
     
     @Test(priority = 4, description = "Verify edit button visibility")
-    public void testEditButtonExists() throws InterruptedException {
-        driver.get(BASE_URL);
-        Thread.sleep(1000);
-        
-        List<WebElement> orders = driver.findElements(By.className("order-item"));
-        if (orders.size() > 0) {
-            List<WebElement> editButtons = driver.findElements(By.linkText("Edit"));
-            Assert.assertTrue(editButtons.size() > 0, "Edit buttons should be present");
-            System.out.println("✓ Test 4 Passed: Edit buttons are visible");
-        } else {
-            System.out.println("⚠ Test 4 Skipped: No orders to check");
-        }
+    public void testEditButtonExists() {
+        OrderFixtures.create(OrderFixtures.order(generateUniqueInvoice("BUTTONS"), 1));
+        navigateTo(BASE_URL);
+        
+        List<IndexPage.Order> orders = new IndexPage(getDriver()).snapshot().orders;
+        Assert.assertFalse(orders.isEmpty(), "Orders should be listed");
+        Assert.assertTrue(orders.stream().allMatch(o -> o.hasEdit), "Edit buttons should be present");
+        System.out.println("✓ Test 4 Passed: Edit buttons are visible");
     }
     
     @Test(priority = 5, description = "Verify delete button visibility")
-    public void testDeleteButtonExists() throws InterruptedException {
-        driver.get(BASE_URL);
-        Thread.sleep(1000);
-        
-        List<WebElement> orders = driver.findElements(By.className("order-item"));
-        if (orders.size() > 0) {
-            List<WebElement> deleteButtons = driver.findElements(
-                By.xpath("//button[contains(text(), 'Delete')]")
-            );
-            Assert.assertTrue(deleteButtons.size() > 0, "Delete buttons should be present");
-            System.out.println("✓ Test 5 Passed: Delete buttons are visible");
-        } else {
-            System.out.println("⚠ Test 5 Skipped: No orders to check");
+    public void testDeleteButtonExists() {
+        OrderFixtures.create(OrderFixtures.order(generateUniqueInvoice("BUTTONS"), 1));
+        navigateTo(BASE_URL);
+        
+        List<IndexPage.Order> orders = new IndexPage(getDriver()).snapshot().orders;
+        Assert.assertFalse(orders.isEmpty(), "Orders should be listed");
+        Assert.assertTrue(orders.stream().allMatch(o -> o.hasDelete), "Delete buttons should be present");
+        System.out.println("✓ Test 5 Passed: Delete buttons are visible");
+    }
+    
+    /**
+     * Helper method to find an order's position in the rendered list
+     */
+    private int orderIndex(List<IndexPage.Order> orders, String invoiceNumber) {
+        for (int i = 0; i < orders.size(); i++) {
+            if (invoiceNumber.equals(orders.get(i).invoiceNumber)) {
+                return i;
+            }
         }
+        throw new AssertionError("Order " + invoiceNumber + " should be listed");
     }
 }
@@ -0,0 +1,55 @@
+package com.orderManager;
+
+import org.openqa.selenium.WebDriver;
+
+import java.util.Map;
+
+/**
+ * Page object for the edit form (edit.html). {@link #snapshot()} reads the heading and the
+ * complete form state, including every line item row, in a single round trip.
+ */
+public class EditPage {
+    private static final String SNAPSHOT =
+        "var form = document.querySelector('main form');"
+        + "return {"
+        + "  title: document.title,"
+        + "  heading: text(document.querySelector('h1')),"
+        + "  subtitle: text(document.querySelector('header p')),"
+        + "  form: readForm(form)"
+        + "};";
+
+    private final WebDriver driver;
+
+    public EditPage(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Read the whole page in one executeScript call
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(PageSnapshots.read(driver, SNAPSHOT));
+    }
+
+    public static final class Snapshot {
+        public final String title;
+        public final String heading;
+        public final String subtitle;
+        public final String orderId;
+        public final PageSnapshots.Form form;
+
+        Snapshot(Map<String, Object> values) {
+            this.title = PageSnapshots.string(values, "title");
+            this.heading = PageSnapshots.string(values, "heading");
+            this.subtitle = PageSnapshots.string(values, "subtitle");
+            Map<String, Object> formValues = PageSnapshots.map(values, "form");
+            this.form = formValues == null ? null : new PageSnapshots.Form(formValues);
+            this.orderId = form == null || form.action == null
+                ? null : form.action.replaceAll("^/orders/([^/]+)/update$", "$1");
+        }
+
+        public boolean isEditPage() {
+            return heading != null && heading.contains("Edit Order") && form != null;
+        }
+    }
+}
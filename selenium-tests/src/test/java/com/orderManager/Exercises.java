@@ -0,0 +1,22 @@
+package com.orderManager;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares which app routes and templates a test class exercises.
+ * Used by {@link TestImpactSelector} to pick the classes affected by a change;
+ * classes without it always run.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Exercises {
+
+    /** Route paths exactly as declared in app.py, e.g. "/orders/{order_id}/edit" */
+    String[] routes() default {};
+
+    /** Template file names under order_manager/templates, e.g. "items.html" */
+    String[] templates() default {};
+}
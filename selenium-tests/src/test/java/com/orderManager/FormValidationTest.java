@@ -1,6 +1,7 @@
 package com.orderManager;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebElement;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -10,76 +11,75 @@ import java.util.List;
 /**
  * Tests for form validation
  */
+@Exercises(routes = {"/", "/orders/add"}, templates = {"index.html"})
 public class FormValidationTest extends BaseTest {
     
     @Test(priority = 1, description = "Test 1: Form validation for required invoice number")
-    public void testRequiredInvoiceNumber() throws InterruptedException {
-        driver.get(BASE_URL);
+    public void testRequiredInvoiceNumber() {
+        navigateTo(BASE_URL);
         expandAddOrderForm();
         
         // Try to submit without invoice number
-        WebElement submitBtn = driver.findElement(By.xpath("//button[text()='Save Order']"));
+        WebElement submitBtn = getDriver().findElement(By.xpath("//button[text()='Save Order']"));
         submitBtn.click();
-        Thread.sleep(1000);
+        
+        // The browser blocks submission synchronously, so the form must report itself invalid
+        Assert.assertFalse(isAddOrderFormValid(), "Form should fail HTML5 validation");
         
         // Should still be on same page (HTML5 validation)
-        Assert.assertTrue(driver.getTitle().contains("Order Manager"), 
+        Assert.assertTrue(getDriver().getTitle().contains("Order Manager"), 
                          "Should remain on same page due to validation");
         
         System.out.println("✓ Test 1 Passed: Invoice number field validation works");
     }
     
     @Test(priority = 2, description = "Test 2: Verify item description is required")
-    public void testRequiredItemDescription() throws InterruptedException {
-        driver.get(BASE_URL);
+    public void testRequiredItemDescription() {
+        navigateTo(BASE_URL);
         expandAddOrderForm();
         
         // Fill invoice but leave description empty
-        driver.findElement(By.id("invoice_number")).sendKeys("VALIDATION-TEST");
-        
-        Thread.sleep(500);
+        getDriver().findElement(By.id("invoice_number")).sendKeys("VALIDATION-TEST");
         
         // Fill qty and price but not description
-        List<WebElement> qtyInputs = driver.findElements(By.name("qty[]"));
-        List<WebElement> priceInputs = driver.findElements(By.name("price[]"));
+        List<WebElement> qtyInputs = getDriver().findElements(By.name("qty[]"));
+        List<WebElement> priceInputs = getDriver().findElements(By.name("price[]"));
         
         qtyInputs.get(0).clear();
         qtyInputs.get(0).sendKeys("1");
         priceInputs.get(0).sendKeys("10.00");
         
         // Try to submit
-        WebElement submitBtn = driver.findElement(By.xpath("//button[text()='Save Order']"));
+        WebElement submitBtn = getDriver().findElement(By.xpath("//button[text()='Save Order']"));
         submitBtn.click();
-        Thread.sleep(1000);
+        Assert.assertFalse(isAddOrderFormValid(), "Form should fail HTML5 validation");
         
         // Should remain on same page
-        Assert.assertTrue(driver.getCurrentUrl().contains(BASE_URL), 
+        Assert.assertTrue(getDriver().getCurrentUrl().contains(BASE_URL), 
                          "Should remain on page due to validation");
         
         System.out.println("✓ Test 2 Passed: Item description validation works");
     }
     
     @Test(priority = 3, description = "Test 3: Verify all form fields accept valid input")
-    public void testAllFormFieldsAcceptInput() throws InterruptedException {
-        driver.get(BASE_URL);
+    public void testAllFormFieldsAcceptInput() {
+        navigateTo(BASE_URL);
         expandAddOrderForm();
         
         // Test all input fields
-        WebElement invoiceInput = driver.findElement(By.id("invoice_number"));
-        WebElement customerInput = driver.findElement(By.id("customer_name"));
-        WebElement salesmanInput = driver.findElement(By.id("salesman_name"));
+        WebElement invoiceInput = getDriver().findElement(By.id("invoice_number"));
+        WebElement customerInput = getDriver().findElement(By.id("customer_name"));
+        WebElement salesmanInput = getDriver().findElement(By.id("salesman_name"));
         
         invoiceInput.sendKeys("FIELD-TEST-001");
         customerInput.sendKeys("Test Customer");
         salesmanInput.sendKeys("Test Salesman");
         
-        Thread.sleep(500);
-        
         // Test item fields
-        List<WebElement> skuInputs = driver.findElements(By.name("sku[]"));
-        List<WebElement> descInputs = driver.findElements(By.name("description[]"));
-        List<WebElement> qtyInputs = driver.findElements(By.name("qty[]"));
-        List<WebElement> priceInputs = driver.findElements(By.name("price[]"));
+        List<WebElement> skuInputs = getDriver().findElements(By.name("sku[]"));
+        List<WebElement> descInputs = getDriver().findElements(By.name("description[]"));
+        List<WebElement> qtyInputs = getDriver().findElements(By.name("qty[]"));
+        List<WebElement> priceInputs = getDriver().findElements(By.name("price[]"));
         
         skuInputs.get(0).sendKeys("TEST-SKU");
         descInputs.get(0).sendKeys("Test Description");
@@ -87,24 +87,26 @@ public class FormValidationTest extends BaseTest {
         qtyInputs.get(0).sendKeys("5");
         priceInputs.get(0).sendKeys("99.99");
         
-        // Verify all inputs have values
-        Assert.assertEquals(invoiceInput.getAttribute("value"), "FIELD-TEST-001");
-        Assert.assertEquals(customerInput.getAttribute("value"), "Test Customer");
-        Assert.assertEquals(salesmanInput.getAttribute("value"), "Test Salesman");
-        Assert.assertEquals(skuInputs.get(0).getAttribute("value"), "TEST-SKU");
-        Assert.assertEquals(descInputs.get(0).getAttribute("value"), "Test Description");
-        Assert.assertEquals(qtyInputs.get(0).getAttribute("value"), "5");
-        Assert.assertEquals(priceInputs.get(0).getAttribute("value"), "99.99");
+        // Verify all inputs have values, read back in a single round trip
+        PageSnapshots.Form form = new IndexPage(getDriver()).snapshot().addForm;
+        PageSnapshots.LineItem firstItem = form.lineItems.get(0);
+        Assert.assertEquals(form.invoiceNumber, "FIELD-TEST-001");
+        Assert.assertEquals(form.customerName, "Test Customer");
+        Assert.assertEquals(form.salesmanName, "Test Salesman");
+        Assert.assertEquals(firstItem.sku, "TEST-SKU");
+        Assert.assertEquals(firstItem.description, "Test Description");
+        Assert.assertEquals(firstItem.qty, "5");
+        Assert.assertEquals(firstItem.price, "99.99");
         
         System.out.println("✓ Test 3 Passed: All form fields accept valid input");
     }
     
     @Test(priority = 4, description = "Test numeric validation for quantity field")
-    public void testQuantityNumericValidation() throws InterruptedException {
-        driver.get(BASE_URL);
+    public void testQuantityNumericValidation() {
+        navigateTo(BASE_URL);
         expandAddOrderForm();
         
-        List<WebElement> qtyInputs = driver.findElements(By.name("qty[]"));
+        List<WebElement> qtyInputs = getDriver().findElements(By.name("qty[]"));
         WebElement qtyInput = qtyInputs.get(0);
         
         // Check input type
@@ -116,11 +118,11 @@ public class FormValidationTest extends BaseTest {
     }
     
     @Test(priority = 5, description = "Test numeric validation for price field")
-    public void testPriceNumericValidation() throws InterruptedException {
-        driver.get(BASE_URL);
+    public void testPriceNumericValidation() {
+        navigateTo(BASE_URL);
         expandAddOrderForm();
         
-        List<WebElement> priceInputs = driver.findElements(By.name("price[]"));
+        List<WebElement> priceInputs = getDriver().findElements(By.name("price[]"));
         WebElement priceInput = priceInputs.get(0);
         
         // Check input type
@@ -132,36 +134,31 @@ public class FormValidationTest extends BaseTest {
     }
     
     @Test(priority = 6, description = "Test form submission with minimum required fields")
-    public void testMinimumFieldsSubmission() throws InterruptedException {
-        driver.get(BASE_URL);
+    public void testMinimumFieldsSubmission() {
+        navigateTo(BASE_URL);
         expandAddOrderForm();
         
         String invoiceNum = generateUniqueInvoice("MIN");
-        driver.findElement(By.id("invoice_number")).sendKeys(invoiceNum);
-        
-        Thread.sleep(500);
-        
-        // Fill only one item (minimum required)
-        List<WebElement> descInputs = driver.findElements(By.name("description[]"));
-        List<WebElement> qtyInputs = driver.findElements(By.name("qty[]"));
-        List<WebElement> priceInputs = driver.findElements(By.name("price[]"));
         
-        descInputs.get(0).sendKeys("Minimum Required Item");
-        qtyInputs.get(0).clear();
-        qtyInputs.get(0).sendKeys("1");
-        priceInputs.get(0).clear();
-        priceInputs.get(0).sendKeys("1");
+        // Fill only one item (minimum required, SKU included)
+        OrderForm.invoice(invoiceNum)
+            .item("SKU-MIN-001", "Minimum Required Item", 1, "1")
+            .fill(getDriver());
         
         // Submit
-        WebElement submitBtn = driver.findElement(By.xpath("//button[text()='Save Order']"));
-        submitBtn.click();
-        Thread.sleep(3000);
+        WebElement submitBtn = getDriver().findElement(By.xpath("//button[text()='Save Order']"));
+        submitAndConfirmWrite(submitBtn, WriteConfirmation.insertOf(invoiceNum));
         
         // Should successfully submit
-        String currentUrl = driver.getCurrentUrl();
+        String currentUrl = getDriver().getCurrentUrl();
         Assert.assertTrue(currentUrl.equals(BASE_URL + "/") || currentUrl.equals(BASE_URL),
                          "Should submit successfully with minimum fields");
         
         System.out.println("✓ Test 6 Passed: Minimum required fields submission works");
     }
+    
+    private boolean isAddOrderFormValid() {
+        return Boolean.TRUE.equals(((JavascriptExecutor) getDriver()).executeScript(
+            "return document.getElementById('addOrderFormElement').checkValidity();"));
+    }
 }
@@ -0,0 +1,51 @@
+package com.orderManager;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Thread-safe set of samples kept in an HdrHistogram (3 significant digits) instead of a list,
+ * so memory stays flat however long the run is. Values are stored as whole multiples of
+ * 1/unitsPerValue (e.g. 1000 to keep milliseconds at microsecond resolution) and clamped to
+ * the given range.
+ */
+final class HistogramSamples {
+    private final long highestUnits;
+    private final double unitsPerValue;
+    private final Recorder recorder;
+    // Everything recorded before the last read, folded in from the recorder
+    private final Histogram recorded;
+
+    HistogramSamples(long highestUnits, double unitsPerValue) {
+        this.highestUnits = highestUnits;
+        this.unitsPerValue = unitsPerValue;
+        this.recorder = new Recorder(highestUnits, 3);
+        this.recorded = new Histogram(highestUnits, 3);
+    }
+
+    void add(double value) {
+        recorder.recordValue(Math.max(0, Math.min(highestUnits, Math.round(value * unitsPerValue))));
+    }
+
+    synchronized long count() {
+        return fold().getTotalCount();
+    }
+
+    /**
+     * Value at the given percentile, or NaN when nothing was recorded
+     */
+    synchronized double percentile(double percentile) {
+        Histogram histogram = fold();
+        return histogram.getTotalCount() == 0 ? Double.NaN : histogram.getValueAtPercentile(percentile) / unitsPerValue;
+    }
+
+    synchronized double max() {
+        Histogram histogram = fold();
+        return histogram.getTotalCount() == 0 ? Double.NaN : histogram.getMaxValue() / unitsPerValue;
+    }
+
+    private Histogram fold() {
+        recorded.add(recorder.getIntervalHistogram());
+        return recorded;
+    }
+}
@@ -0,0 +1,58 @@
+package com.orderManager;
+
+import org.jsoup.nodes.Element;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Homepage checks on the server-rendered HTML, run without a browser
+ */
+@Exercises(routes = {"/"}, templates = {"index.html"})
+public class HomepageContentTest extends BaseHttpTest {
+    
+    @Test(priority = 1, description = "Test 1: Verify homepage loads with correct title")
+    public void testHomepageLoads() throws Exception {
+        HttpPage page = fetch("/");
+        Assert.assertEquals(page.status, 200, "Homepage should respond with 200");
+        Assert.assertTrue(page.dom.title().contains("Order Manager"), "Page title should contain 'Order Manager'");
+        System.out.println("✓ Test 1 Passed: Homepage loads with correct title");
+    }
+    
+    @Test(priority = 2, description = "Test 2: Verify KPI cards are displayed correctly")
+    public void testKPIsDisplay() throws Exception {
+        HttpPage page = fetch("/");
+        
+        Assert.assertEquals(page.dom.select(".kpi-card").size(), 3, "Should have exactly 3 KPI cards");
+        
+        // Verify KPI labels are present
+        String labels = page.dom.select(".kpi-label").text();
+        Assert.assertTrue(labels.contains("Total Spend"), "Should display Total Spend KPI");
+        Assert.assertTrue(labels.contains("Total Orders"), "Should display Total Orders KPI");
+        Assert.assertTrue(labels.contains("Average Order"), "Should display Average Order Value KPI");
+        
+        System.out.println("✓ Test 2 Passed: KPIs display correctly with 3 cards");
+    }
+    
+    @Test(priority = 3, description = "Test 3: Verify currency is displayed in PKR format")
+    public void testCurrencyDisplayPKR() throws Exception {
+        HttpPage page = fetch("/");
+        Assert.assertTrue(page.dom.select(".kpi-value").text().contains("PKR"), "Currency should be displayed in PKR format");
+        System.out.println("✓ Test 3 Passed: Currency displayed in PKR format");
+    }
+    
+    @Test(priority = 4, description = "Verify page header and branding")
+    public void testPageHeaderExists() throws Exception {
+        HttpPage page = fetch("/");
+        Assert.assertTrue(page.dom.select("h1").text().contains("Order Manager"), "Should display application title");
+        System.out.println("✓ Test 4 Passed: Page header and branding present");
+    }
+    
+    @Test(priority = 5, description = "Verify Items Database navigation link exists")
+    public void testItemsDatabaseLinkExists() throws Exception {
+        HttpPage page = fetch("/");
+        Element itemsLink = page.dom.selectFirst("a:contains(View Items Database)");
+        Assert.assertNotNull(itemsLink, "Items Database link should exist");
+        Assert.assertEquals(itemsLink.attr("href"), "/items", "Items Database link should point to /items");
+        System.out.println("✓ Test 5 Passed: Items Database link exists");
+    }
+}
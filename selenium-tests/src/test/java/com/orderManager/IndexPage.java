@@ -0,0 +1,188 @@
+package com.orderManager;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Page object for the order list (index.html). {@link #snapshot()} reads the KPIs, every
+ * order with its line items, the search box and the add-order form in a single round trip.
+ */
+public class IndexPage {
+    private static final String SNAPSHOT =
+        "var kpis = {};"
+        + "document.querySelectorAll('.kpi-card').forEach(function (card) {"
+        + "  kpis[text(card.querySelector('.kpi-label'))] = number(text(card.querySelector('.kpi-value')));"
+        + "});"
+        + "var search = document.getElementById('searchInput');"
+        + "var addForm = document.getElementById('addOrderForm');"
+        + "var addDetails = addForm ? addForm.closest('details') : null;"
+        + "return {"
+        + "  title: document.title,"
+        + "  heading: text(document.querySelector('h1')),"
+        + "  kpis: {"
+        + "    spend: kpis['Total Spend'],"
+        + "    count: kpis['Total Orders'],"
+        + "    avg: kpis['Average Order Value']"
+        + "  },"
+        + "  search_value: search ? search.value : null,"
+        + "  add_form_open: !!addDetails && addDetails.open,"
+        + "  add_form: readForm(document.getElementById('addOrderFormElement')),"
+        + "  orders: Array.from(document.querySelectorAll('.order-item')).map(function (order) {"
+        + "    var edit = order.querySelector('.actions a');"
+        + "    var details = order.querySelector('details');"
+        + "    var meta = text(order.querySelector('.order-meta')) || '';"
+        + "    var people = meta.split('📅')[0].split('|');"
+        + "    var summary = text(details && details.querySelector('summary')) || '';"
+        + "    var totals = summary.match(/Items \\(([0-9.]+)\\).*PKR ([0-9,.\\-]+)/);"
+        + "    var id = edit ? (edit.getAttribute('href').match(/\\/orders\\/([^\\/]+)\\/edit/) || [])[1] : null;"
+        + "    return {"
+        + "      id: id || null,"
+        + "      invoice_number: (text(order.querySelector('.order-header strong')) || '').replace(/^Invoice #/, ''),"
+        + "      customer_name: (people[0] || '').replace('👤', '').trim(),"
+        + "      salesman_name: (people[1] || '').replace('🤝', '').trim(),"
+        + "      created_at: (meta.split('📅')[1] || '').trim(),"
+        + "      visible: order.style.display !== 'none' && shown(order),"
+        + "      has_edit: !!edit,"
+        + "      has_delete: Array.from(order.querySelectorAll('.actions button')).some(function (b) { return text(b) === 'Delete'; }),"
+        + "      details_open: !!details && details.open,"
+        + "      total_quantity: totals ? number(totals[1]) : null,"
+        + "      total_amount: totals ? number(totals[2]) : null,"
+        + "      items: Array.from(order.querySelectorAll('.item-detail')).map(function (item) {"
+        + "        var line = text(item);"
+        + "        var parts = line.match(/^(\\d+)\\..*\\(SKU: (.*?)\\)\\s*- Qty: ([0-9.]+) × PKR ([0-9,.\\-]+) = PKR ([0-9,.\\-]+)/) || [];"
+        + "        return {"
+        + "          sr_no: number(parts[1]),"
+        + "          description: text(item.querySelector('strong')),"
+        + "          sku: parts[2] || null,"
+        + "          qty: number(parts[3]),"
+        + "          price: number(parts[4]),"
+        + "          amount: number(parts[5]),"
+        + "          visible: shown(item)"
+        + "        };"
+        + "      })"
+        + "    };"
+        + "  })"
+        + "};";
+
+    private final WebDriver driver;
+
+    public IndexPage(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Read the whole page in one executeScript call
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(PageSnapshots.read(driver, SNAPSHOT));
+    }
+
+    /**
+     * The expandable items element of the order at the given position in the list
+     */
+    public WebElement orderDetails(int index) {
+        return (WebElement) ((JavascriptExecutor) driver).executeScript(
+            "return document.querySelectorAll('.order-item')[arguments[0]].querySelector('details');", index);
+    }
+
+    public static final class Snapshot {
+        public final String title;
+        public final String heading;
+        public final Kpis kpis;
+        public final String searchValue;
+        public final boolean addFormOpen;
+        public final PageSnapshots.Form addForm;
+        public final List<Order> orders;
+
+        Snapshot(Map<String, Object> values) {
+            this.title = PageSnapshots.string(values, "title");
+            this.heading = PageSnapshots.string(values, "heading");
+            this.kpis = new Kpis(PageSnapshots.map(values, "kpis"));
+            this.searchValue = PageSnapshots.string(values, "search_value");
+            this.addFormOpen = PageSnapshots.flag(values, "add_form_open");
+            Map<String, Object> form = PageSnapshots.map(values, "add_form");
+            this.addForm = form == null ? null : new PageSnapshots.Form(form);
+            this.orders = PageSnapshots.list(values, "orders", Order::new);
+        }
+
+        public Optional<Order> order(String invoiceNumber) {
+            return orders.stream().filter(o -> invoiceNumber.equals(o.invoiceNumber)).findFirst();
+        }
+
+        public long visibleOrderCount() {
+            return orders.stream().filter(o -> o.visible).count();
+        }
+    }
+
+    public static final class Kpis {
+        public final double spend;
+        public final long count;
+        public final double avg;
+
+        Kpis(Map<String, Object> values) {
+            Map<String, Object> kpis = values == null ? Map.of() : values;
+            this.spend = PageSnapshots.number(kpis, "spend");
+            this.count = PageSnapshots.integer(kpis, "count");
+            this.avg = PageSnapshots.number(kpis, "avg");
+        }
+    }
+
+    public static final class Order {
+        public final String id;
+        public final String invoiceNumber;
+        public final String customerName;
+        public final String salesmanName;
+        public final String createdAt;
+        public final boolean visible;
+        public final boolean hasEdit;
+        public final boolean hasDelete;
+        public final boolean detailsOpen;
+        public final double totalQuantity;
+        public final double totalAmount;
+        public final List<Item> items;
+
+        Order(Map<String, Object> values) {
+            this.id = PageSnapshots.string(values, "id");
+            this.invoiceNumber = PageSnapshots.string(values, "invoice_number");
+            this.customerName = PageSnapshots.string(values, "customer_name");
+            this.salesmanName = PageSnapshots.string(values, "salesman_name");
+            this.createdAt = PageSnapshots.string(values, "created_at");
+            this.visible = PageSnapshots.flag(values, "visible");
+            this.hasEdit = PageSnapshots.flag(values, "has_edit");
+            this.hasDelete = PageSnapshots.flag(values, "has_delete");
+            this.detailsOpen = PageSnapshots.flag(values, "details_open");
+            this.totalQuantity = PageSnapshots.number(values, "total_quantity");
+            this.totalAmount = PageSnapshots.number(values, "total_amount");
+            this.items = PageSnapshots.list(values, "items", Item::new);
+        }
+
+        public long visibleItemCount() {
+            return items.stream().filter(i -> i.visible).count();
+        }
+    }
+
+    public static final class Item {
+        public final long srNo;
+        public final String description;
+        public final String sku;
+        public final double qty;
+        public final double price;
+        public final double amount;
+        public final boolean visible;
+
+        Item(Map<String, Object> values) {
+            this.srNo = PageSnapshots.integer(values, "sr_no");
+            this.description = PageSnapshots.string(values, "description");
+            this.sku = PageSnapshots.string(values, "sku");
+            this.qty = PageSnapshots.number(values, "qty");
+            this.price = PageSnapshots.number(values, "price");
+            this.amount = PageSnapshots.number(values, "amount");
+            this.visible = PageSnapshots.flag(values, "visible");
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.orderManager;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Items Database checks on the server-rendered HTML, run without a browser
+ */
+@Exercises(routes = {"/items"}, templates = {"items.html"})
+public class ItemsContentTest extends BaseHttpTest {
+    
+    @Test(priority = 1, description = "Test 1: Verify Items Database statistics display")
+    public void testItemsDatabaseStatistics() throws Exception {
+        HttpPage page = fetch("/items");
+        Assert.assertEquals(page.status, 200, "Items page should respond with 200");
+        
+        String labels = page.dom.select(".stat-label").text();
+        Assert.assertTrue(labels.contains("UNIQUE ITEMS"), "Should display Unique Items stat");
+        Assert.assertTrue(labels.contains("TOTAL QUANTITY"), "Should display Total Quantity stat");
+        Assert.assertTrue(labels.contains("TOTAL VALUE"), "Should display Total Value stat");
+        
+        System.out.println("✓ Test 1 Passed: Items Database statistics display correctly");
+    }
+    
+    @Test(priority = 2, description = "Verify items database page title")
+    public void testItemsDatabasePageTitle() throws Exception {
+        HttpPage page = fetch("/items");
+        String title = page.dom.title();
+        Assert.assertTrue(title.contains("Items") || title.contains("Database"), 
+                         "Page title should reference Items or Database");
+        System.out.println("✓ Test 2 Passed: Items Database page title correct");
+    }
+}
@@ -0,0 +1,95 @@
+package com.orderManager;
+
+import org.openqa.selenium.WebDriver;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Page object for the items database (items.html). {@link #snapshot()} reads the summary
+ * statistics, the search term and every item card in a single round trip.
+ */
+public class ItemsPage {
+    private static final String SNAPSHOT =
+        "var stats = {};"
+        + "document.querySelectorAll('.stat-card').forEach(function (card) {"
+        + "  stats[text(card.querySelector('.stat-label'))] = number(text(card.querySelector('.stat-value')));"
+        + "});"
+        + "var search = document.querySelector('input[name=\"search\"]');"
+        + "return {"
+        + "  title: document.title,"
+        + "  heading: text(document.querySelector('h1')),"
+        + "  search_value: search ? search.value : null,"
+        + "  unique_items: stats['UNIQUE ITEMS'],"
+        + "  total_quantity: stats['TOTAL QUANTITY'],"
+        + "  total_value: stats['TOTAL VALUE'],"
+        + "  items: Array.from(document.querySelectorAll('.item-card')).map(function (card) {"
+        + "    var meta = text(card.querySelector('.item-meta')) || '';"
+        + "    var parts = meta.match(/SKU: (.*?) \\| Total Qty: ([0-9.\\-]+) \\| Avg Price: PKR ([0-9,.\\-]+) Used in (\\d+) order/) || [];"
+        + "    return {"
+        + "      description: text(card.querySelector('.item-header strong')),"
+        + "      sku: parts[1] || null,"
+        + "      total_qty: number(parts[2]),"
+        + "      avg_price: number(parts[3]),"
+        + "      order_count: number(parts[4]),"
+        + "      total_amount: number(text(card.querySelector('.actions')))"
+        + "    };"
+        + "  })"
+        + "};";
+
+    private final WebDriver driver;
+
+    public ItemsPage(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Read the whole page in one executeScript call
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(PageSnapshots.read(driver, SNAPSHOT));
+    }
+
+    public static final class Snapshot {
+        public final String title;
+        public final String heading;
+        public final String searchValue;
+        public final long uniqueItems;
+        public final double totalQuantity;
+        public final double totalValue;
+        public final List<Item> items;
+
+        Snapshot(Map<String, Object> values) {
+            this.title = PageSnapshots.string(values, "title");
+            this.heading = PageSnapshots.string(values, "heading");
+            this.searchValue = PageSnapshots.string(values, "search_value");
+            this.uniqueItems = PageSnapshots.integer(values, "unique_items");
+            this.totalQuantity = PageSnapshots.number(values, "total_quantity");
+            this.totalValue = PageSnapshots.number(values, "total_value");
+            this.items = PageSnapshots.list(values, "items", Item::new);
+        }
+
+        public Optional<Item> item(String sku) {
+            return items.stream().filter(i -> sku.equals(i.sku)).findFirst();
+        }
+    }
+
+    public static final class Item {
+        public final String description;
+        public final String sku;
+        public final double totalQty;
+        public final double avgPrice;
+        public final long orderCount;
+        public final double totalAmount;
+
+        Item(Map<String, Object> values) {
+            this.description = PageSnapshots.string(values, "description");
+            this.sku = PageSnapshots.string(values, "sku");
+            this.totalQty = PageSnapshots.number(values, "total_qty");
+            this.avgPrice = PageSnapshots.number(values, "avg_price");
+            this.orderCount = PageSnapshots.integer(values, "order_count");
+            this.totalAmount = PageSnapshots.number(values, "total_amount");
+        }
+    }
+}
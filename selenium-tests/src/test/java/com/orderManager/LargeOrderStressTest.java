@@ -0,0 +1,98 @@
+package com.orderManager;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Stress mode for the add-order flow: submits orders with hundreds of items and times
+ * filling the form, the full submit (POST, redirect and homepage render) and opening
+ * the saved order in the edit form.
+ * Run with: mvn test -Dgroups=benchmark -Dtest.excludedGroups=
+ */
+@Exercises(routes = {"/", "/orders/add", "/orders/{order_id}/edit"}, templates = {"index.html", "edit.html"})
+public class LargeOrderStressTest extends BaseTest {
+    private static final Path REPORT = Paths.get("target", "large-order-submit" + ShardSelector.fileSuffix() + ".csv");
+    private static final double BUDGET_MS = Double.parseDouble(System.getProperty("benchmark.order.budgetMs", "5000"));
+    
+    // item count -> {fill, submit, edit page} milliseconds
+    private static final Map<Integer, double[]> TIMINGS = new ConcurrentSkipListMap<>();
+    
+    @DataProvider(name = "itemCounts")
+    public Object[][] itemCounts() {
+        return Arrays.stream(System.getProperty("benchmark.order.items", "100,250,500").split(","))
+            .map(String::trim)
+            .map(count -> new Object[]{Integer.parseInt(count)})
+            .toArray(Object[][]::new);
+    }
+    
+    @Test(groups = "benchmark", dataProvider = "itemCounts",
+          description = "Benchmark: submit an order with many items")
+    public void benchmarkLargeOrderSubmit(int itemCount) {
+        navigateTo(BASE_URL);
+        expandAddOrderForm();
+        
+        String invoiceNum = generateUniqueInvoice("STRESS-" + itemCount);
+        OrderForm form = OrderForm.invoice(invoiceNum)
+            .customer("Stress Test Customer")
+            .salesman("Stress Test Salesman");
+        for (int i = 1; i <= itemCount; i++) {
+            form.item(String.format("SKU-STRESS-%04d", i), "Stress Item " + i, 1 + i % 5, String.format("%d.%02d", 10 + i % 90, i % 100));
+        }
+        
+        long fillStart = System.nanoTime();
+        int rows = form.fill(getDriver());
+        double fillMs = (System.nanoTime() - fillStart) / 1e6;
+        Assert.assertEquals(rows, itemCount, "Form should hold one row per item");
+        
+        WebElement submitBtn = getDriver().findElement(By.xpath("//button[text()='Save Order']"));
+        long submitStart = System.nanoTime();
+        submitAndConfirmWrite(submitBtn, WriteConfirmation.insertOf(invoiceNum));
+        double submitMs = (System.nanoTime() - submitStart) / 1e6;
+        
+        IndexPage.Order order = new IndexPage(getDriver()).snapshot().order(invoiceNum).orElse(null);
+        Assert.assertNotNull(order, "Large order should appear on the homepage");
+        Assert.assertEquals(order.items.size(), itemCount, "Every item should be saved");
+        
+        // Re-open the saved invoice: the edit form renders one input row per item
+        long editStart = System.nanoTime();
+        navigateTo(BASE_URL + "/orders/" + order.id + "/edit");
+        EditPage.Snapshot edit = new EditPage(getDriver()).snapshot();
+        double editMs = (System.nanoTime() - editStart) / 1e6;
+        Assert.assertEquals(edit.form.lineItems.size(), itemCount, "Edit form should show every item");
+        
+        TIMINGS.put(itemCount, new double[]{fillMs, submitMs, editMs});
+        System.out.printf("✓ Benchmark: %d items, fill %.1f ms, submit %.1f ms, edit page %.1f ms (budget %.0f ms)%n",
+            itemCount, fillMs, submitMs, editMs, BUDGET_MS);
+        Assert.assertTrue(submitMs <= BUDGET_MS,
+            String.format("Submitting %d items took %.1f ms, budget is %.0f ms", itemCount, submitMs, BUDGET_MS));
+    }
+    
+    @AfterClass(alwaysRun = true)
+    public void reportTimings() {
+        if (TIMINGS.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(REPORT.getParent());
+            try (PrintWriter csv = new PrintWriter(Files.newBufferedWriter(REPORT))) {
+                csv.println("items,fill_ms,submit_ms,edit_page_ms");
+                TIMINGS.forEach((items, ms) -> csv.printf("%d,%.1f,%.1f,%.1f%n", items, ms[0], ms[1], ms[2]));
+            }
+        } catch (IOException e) {
+            System.err.println("Warning: Could not write large order report - " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.orderManager;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandSucceededEvent;
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionPoolListener;
+import com.mongodb.event.ConnectionReadyEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Command and connection-pool listener that times every MongoDB command,
+ * every connection checkout and every new connection's setup (TCP, TLS, handshake).
+ * Latencies are kept in {@link HistogramSamples} at microsecond resolution.
+ */
+public class MongoMetrics implements CommandListener, ConnectionPoolListener {
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Map<String, Timings> commands = new ConcurrentSkipListMap<>();
+    private final Timings checkouts = new Timings();
+    private final Timings connectionSetup = new Timings();
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        timings(event.getCommandName()).add(event.getElapsedTime(TimeUnit.NANOSECONDS), false);
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        timings(event.getCommandName()).add(event.getElapsedTime(TimeUnit.NANOSECONDS), true);
+    }
+
+    @Override
+    public void connectionCheckedOut(ConnectionCheckedOutEvent event) {
+        checkouts.add(event.getElapsedTime(TimeUnit.NANOSECONDS), false);
+    }
+
+    @Override
+    public void connectionCheckOutFailed(ConnectionCheckOutFailedEvent event) {
+        checkouts.add(event.getElapsedTime(TimeUnit.NANOSECONDS), true);
+    }
+
+    @Override
+    public void connectionReady(ConnectionReadyEvent event) {
+        connectionSetup.add(event.getElapsedTime(TimeUnit.NANOSECONDS), false);
+    }
+
+    /**
+     * Print where database time went: per command, pool waits and connection setup
+     */
+    public void printSummary() {
+        if (commands.isEmpty() && checkouts.count.sum() == 0) {
+            return;
+        }
+        double totalMillis = commands.values().stream().mapToDouble(Timings::totalMillis).sum();
+        System.out.println("MongoDB time by command (total ms / share / mean / p95 / max):");
+        commands.entrySet().stream()
+            .sorted((a, b) -> Double.compare(b.getValue().totalMillis(), a.getValue().totalMillis()))
+            .forEach(e -> System.out.println("  " + e.getValue().describe(e.getKey(), totalMillis)));
+        System.out.println("  " + checkouts.describe("pool checkout wait", Double.NaN));
+        System.out.println("  " + connectionSetup.describe("connection setup", Double.NaN));
+    }
+
+    private Timings timings(String command) {
+        return commands.computeIfAbsent(command, c -> new Timings());
+    }
+
+    private static final class Timings {
+        final LongAdder count = new LongAdder();
+        final LongAdder failures = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final HistogramSamples latencies = new HistogramSamples(MAX_LATENCY_MICROS, 1000);
+
+        void add(long elapsedNanos, boolean failed) {
+            count.increment();
+            if (failed) {
+                failures.increment();
+            }
+            totalNanos.add(elapsedNanos);
+            latencies.add(elapsedNanos / 1e6);
+        }
+
+        double totalMillis() {
+            return totalNanos.sum() / 1e6;
+        }
+
+        String describe(String name, double grandTotalMillis) {
+            long n = count.sum();
+            double total = totalMillis();
+            String share = Double.isNaN(grandTotalMillis) || grandTotalMillis == 0
+                ? "    -" : String.format("%4.0f%%", 100 * total / grandTotalMillis);
+            return String.format("%-20s n=%-6d failed=%-3d %10.1f %s %8.2f %8.2f %8.2f",
+                name, n, failures.sum(), total, share,
+                n == 0 ? 0 : total / n,
+                n == 0 ? 0 : latencies.percentile(95),
+                n == 0 ? 0 : latencies.max());
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.orderManager;
+
+import org.bson.Document;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Records every network request a test triggers through a Chrome DevTools session
+ * and writes one JSON line per request to target/network/&lt;TestClass&gt;.jsonl.
+ * Uses raw CDP method names so it does not depend on a versioned devtools package.
+ * Disable with -Dnetwork.capture=false.
+ *
+ * Records are filled in on the DevTools listener thread and may be flushed by {@link #stop()}
+ * on the test thread, so every access to a record is synchronized on that record.
+ */
+public final class NetworkRecorder {
+    public static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("network.capture", "true"));
+    private static final Path OUTPUT_DIR = Paths.get("target", "network");
+    private static final Map<WebDriver, NetworkRecorder> RECORDERS = new ConcurrentHashMap<>();
+
+    private final DevTools devTools;
+    private final Map<String, Document> inFlight = new ConcurrentHashMap<>();
+    private volatile AsyncJsonlWriter sink;
+    private volatile String testClass;
+    private volatile String testName;
+
+    private NetworkRecorder(DevTools devTools) {
+        this.devTools = devTools;
+        devTools.createSessionIfThereIsNotOne();
+        devTools.send(new Command<>("Network.enable", Map.of()));
+        listen("Network.requestWillBeSent", this::onRequest);
+        listen("Network.responseReceived", this::onResponse);
+        listen("Network.requestServedFromCache", this::onServedFromCache);
+        listen("Network.loadingFinished", this::onFinished);
+        listen("Network.loadingFailed", this::onFailed);
+    }
+
+    /**
+     * Start recording the driver's traffic for a test; returns null when capture is off or unsupported
+     */
+    public static NetworkRecorder start(WebDriver driver, String testClass, String testName) {
+        if (!ENABLED || !(driver instanceof HasDevTools)) {
+            return null;
+        }
+        NetworkRecorder recorder;
+        try {
+            recorder = RECORDERS.computeIfAbsent(driver, d -> new NetworkRecorder(((HasDevTools) d).getDevTools()));
+        } catch (Exception e) {
+            System.err.println("Warning: Network capture unavailable - " + e.getMessage());
+            return null;
+        }
+        recorder.inFlight.clear();
+        recorder.testClass = testClass;
+        recorder.testName = testName;
+        recorder.sink = AsyncJsonlWriter.forFile(OUTPUT_DIR.resolve(testClass + ".jsonl"));
+        return recorder;
+    }
+
+    /**
+     * Stop recording; requests still in flight are written as incomplete
+     */
+    public void stop() {
+        AsyncJsonlWriter current = sink;
+        sink = null;
+        // Take each record out of the map so a late loadingFinished cannot write it a second time
+        for (String requestId : inFlight.keySet()) {
+            Document record = inFlight.remove(requestId);
+            if (record != null && current != null) {
+                synchronized (record) {
+                    current.write(record.append("complete", false).toJson());
+                }
+            }
+        }
+    }
+
+    /**
+     * Forget the recorder of a driver that is being discarded
+     */
+    public static void detach(WebDriver driver) {
+        NetworkRecorder recorder = RECORDERS.remove(driver);
+        if (recorder != null) {
+            recorder.sink = null;
+            try {
+                recorder.devTools.close();
+            } catch (Exception ignored) {
+                // Browser already gone
+            }
+        }
+    }
+
+    private void onRequest(Map<String, Object> event) {
+        if (sink == null) {
+            return;
+        }
+        String requestId = String.valueOf(event.get("requestId"));
+        // A redirect hop reuses the requestId and carries the previous hop's response
+        if (event.get("redirectResponse") != null) {
+            Document previous = inFlight.remove(requestId);
+            if (previous != null) {
+                synchronized (previous) {
+                    Map<String, Object> redirect = map(event.get("redirectResponse"));
+                    applyResponse(previous, redirect);
+                    Map<String, Object> headers = map(redirect.get("headers"));
+                    Object location = headers.containsKey("location") ? headers.get("location") : headers.get("Location");
+                    previous.append("redirect_location", location);
+                    complete(previous, event);
+                }
+            }
+        }
+        Map<String, Object> request = map(event.get("request"));
+        inFlight.put(requestId, new Document("test_class", testClass)
+            .append("test", testName)
+            .append("url", request.get("url"))
+            .append("method", request.get("method"))
+            .append("type", event.get("type"))
+            .append("started_at", event.get("wallTime"))
+            .append("start_timestamp", event.get("timestamp"))
+            .append("from_cache", "none"));
+    }
+
+    private void onResponse(Map<String, Object> event) {
+        Document record = inFlight.get(String.valueOf(event.get("requestId")));
+        if (record == null) {
+            return;
+        }
+        synchronized (record) {
+            applyResponse(record, map(event.get("response")));
+        }
+    }
+
+    /**
+     * Called with the record's lock held
+     */
+    private static void applyResponse(Document record, Map<String, Object> response) {
+        record.append("status", response.get("status"))
+            .append("mime_type", response.get("mimeType"))
+            .append("protocol", response.get("protocol"));
+        if (Boolean.TRUE.equals(response.get("fromDiskCache"))) {
+            record.append("from_cache", "disk");
+        } else if (Boolean.TRUE.equals(response.get("fromServiceWorker"))) {
+            record.append("from_cache", "service_worker");
+        } else if (Boolean.TRUE.equals(response.get("fromPrefetchCache"))) {
+            record.append("from_cache", "prefetch");
+        }
+        Map<String, Object> timing = map(response.get("timing"));
+        if (timing.get("receiveHeadersEnd") instanceof Number) {
+            record.append("ttfb_ms", ((Number) timing.get("receiveHeadersEnd")).doubleValue());
+        }
+    }
+
+    private void onServedFromCache(Map<String, Object> event) {
+        Document record = inFlight.get(String.valueOf(event.get("requestId")));
+        if (record != null) {
+            synchronized (record) {
+                record.append("from_cache", "memory");
+            }
+        }
+    }
+
+    private void onFinished(Map<String, Object> event) {
+        Document record = inFlight.remove(String.valueOf(event.get("requestId")));
+        if (record != null) {
+            synchronized (record) {
+                record.append("encoded_bytes", event.get("encodedDataLength"));
+                complete(record, event);
+            }
+        }
+    }
+
+    private void onFailed(Map<String, Object> event) {
+        Document record = inFlight.remove(String.valueOf(event.get("requestId")));
+        if (record != null) {
+            synchronized (record) {
+                record.append("error", event.get("errorText"))
+                    .append("canceled", event.get("canceled"));
+                complete(record, event);
+            }
+        }
+    }
+
+    /**
+     * Called with the record's lock held
+     */
+    private void complete(Document record, Map<String, Object> event) {
+        Object start = record.remove("start_timestamp");
+        Object end = event.get("timestamp");
+        if (start instanceof Number && end instanceof Number) {
+            // CDP timestamps are monotonic seconds
+            record.append("duration_ms", (((Number) end).doubleValue() - ((Number) start).doubleValue()) * 1000);
+        }
+        record.append("complete", true);
+        AsyncJsonlWriter current = sink;
+        if (current != null) {
+            current.write(record.toJson());
+        }
+    }
+
+    private void listen(String method, Consumer<Map<String, Object>> handler) {
+        devTools.addListener(new Event<Map<String, Object>>(method, input -> input.read(Json.MAP_TYPE)), event -> {
+            try {
+                handler.accept(event);
+            } catch (RuntimeException e) {
+                // Never let a malformed event break the DevTools connection
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> map(Object value) {
+        return value instanceof Map ? (Map<String, Object>) value : Map.of();
+    }
+}
@@ -0,0 +1,172 @@
+package com.orderManager;
+
+import com.mongodb.client.model.Filters;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Creates exactly the orders a test needs before it runs and returns their ids, so tests
+ * no longer depend on what earlier tests happened to add through the UI.
+ * With TEST_MONGO_URI set the orders are written straight into the test database with one
+ * insertMany; otherwise each one is posted to /orders/add concurrently and its id is read
+ * back from the homepage search.
+ */
+public final class OrderFixtures {
+    private static final Pattern EDIT_LINK = Pattern.compile("/orders/([^/]+)/edit");
+
+    private static final HttpClient HTTP = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(5))
+        .followRedirects(HttpClient.Redirect.NEVER)
+        .build();
+
+    private OrderFixtures() {
+    }
+
+    /**
+     * Create the given orders; ids are returned in the same order as the forms
+     */
+    public static List<String> create(OrderForm... forms) {
+        long started = System.nanoTime();
+        List<String> ids = TestDatabase.isConfigured()
+            ? insert(Arrays.asList(forms))
+            : post(Arrays.asList(forms));
+        TestEvents.record("fixture", started, forms.length + " orders");
+        return ids;
+    }
+
+    /**
+     * Remove orders created by {@link #create}, for fixtures that outlive a single test
+     */
+    public static void delete(List<String> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        if (TestDatabase.isConfigured()) {
+            TestDatabase.orders().deleteMany(Filters.in("_id", ids.stream().map(ObjectId::new).collect(Collectors.toList())));
+            return;
+        }
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        for (String id : ids) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(BaseTest.BASE_URL + "/orders/" + id + "/delete"))
+                .timeout(Duration.ofSeconds(10))
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+            pending.add(HTTP.sendAsync(request, HttpResponse.BodyHandlers.discarding()).thenAccept(response -> {
+                if (response.statusCode() != 303) {
+                    throw new IllegalStateException("POST /orders/" + id + "/delete returned HTTP " + response.statusCode());
+                }
+            }));
+        }
+        try {
+            pending.forEach(CompletableFuture::join);
+        } catch (CompletionException e) {
+            throw new IllegalStateException("Could not delete fixture orders: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * Remove any order with this invoice number, e.g. one a UI journey created before it failed
+     */
+    public static void deleteInvoice(String invoiceNumber) {
+        if (TestDatabase.isConfigured()) {
+            TestDatabase.orders().deleteMany(Filters.eq("invoice_number", invoiceNumber));
+            return;
+        }
+        findId(invoiceNumber).join().ifPresent(id -> delete(List.of(id)));
+    }
+
+    /**
+     * Create one order with a unique invoice and the given number of items
+     */
+    public static OrderForm order(String invoiceNumber, int itemCount) {
+        OrderForm form = OrderForm.invoice(invoiceNumber)
+            .customer("Fixture Customer")
+            .salesman("Fixture Salesman");
+        for (int i = 1; i <= itemCount; i++) {
+            form.item("SKU-FIXTURE-" + i, "Fixture Item " + i, i, "10.00");
+        }
+        return form;
+    }
+
+    private static List<String> insert(List<OrderForm> forms) {
+        List<Document> documents = forms.stream().map(OrderForm::toDocument).collect(Collectors.toList());
+        TestDatabase.orders().insertMany(documents);
+        return documents.stream()
+            .map(document -> document.getObjectId("_id").toHexString())
+            .collect(Collectors.toList());
+    }
+
+    private static List<String> post(List<OrderForm> forms) {
+        List<CompletableFuture<String>> pending = new ArrayList<>();
+        for (OrderForm form : forms) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(BaseTest.BASE_URL + "/orders/add"))
+                .timeout(Duration.ofSeconds(10))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form.toFormBody()))
+                .build();
+            pending.add(HTTP.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .thenCompose(response -> {
+                    if (response.statusCode() != 303) {
+                        throw new IllegalStateException("POST /orders/add for " + form.invoiceNumber()
+                            + " returned HTTP " + response.statusCode());
+                    }
+                    return lookUp(form.invoiceNumber());
+                }));
+        }
+        try {
+            return pending.stream().map(CompletableFuture::join).collect(Collectors.toList());
+        } catch (CompletionException e) {
+            throw new IllegalStateException("Could not create fixture orders: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * Find a freshly posted order's id through the homepage search on its (unique) invoice number
+     */
+    private static CompletableFuture<String> lookUp(String invoiceNumber) {
+        return findId(invoiceNumber).thenApply(id -> id.orElseThrow(() ->
+            new IllegalStateException("Order " + invoiceNumber + " was posted but not found on the homepage")));
+    }
+
+    private static CompletableFuture<Optional<String>> findId(String invoiceNumber) {
+        // The search is a regex match, so anchor the invoice and escape everything but letters and digits
+        String pattern = "^" + invoiceNumber.replaceAll("[^A-Za-z0-9]", "\\\\$0") + "$";
+        HttpRequest request = HttpRequest.newBuilder(URI.create(BaseTest.BASE_URL + "/?search="
+                + URLEncoder.encode(pattern, StandardCharsets.UTF_8)))
+            .timeout(Duration.ofSeconds(10))
+            .GET()
+            .build();
+        return HTTP.sendAsync(request, HttpResponse.BodyHandlers.ofString()).thenApply(response -> {
+            for (Element order : Jsoup.parse(response.body()).select(".order-item")) {
+                Element invoice = order.selectFirst(".order-header strong");
+                Element edit = order.selectFirst(".actions a[href]");
+                if (invoice != null && edit != null && invoice.text().equals("Invoice #" + invoiceNumber)) {
+                    Matcher id = EDIT_LINK.matcher(edit.attr("href"));
+                    if (id.find() && ObjectId.isValid(id.group(1))) {
+                        return Optional.of(id.group(1));
+                    }
+                }
+            }
+            return Optional.empty();
+        });
+    }
+}
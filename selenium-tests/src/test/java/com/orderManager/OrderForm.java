@@ -0,0 +1,175 @@
+package com.orderManager;
+
+import org.bson.Document;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Order form contents that are written into the add or edit form with one executeScript call.
+ * Missing item rows are created with the page's own addLineItem(), surplus rows are removed,
+ * and every value that is set fires input and change events just like typing would.
+ * Header fields left unset keep whatever the form already holds.
+ * The same contents can be posted directly or stored as a document by {@link OrderFixtures}.
+ */
+public class OrderForm {
+    public static final String ADD_FORM = "#addOrderFormElement";
+    public static final String EDIT_FORM = "main form";
+
+    private static final String FILL =
+        "var form = document.querySelector(arguments[0]);"
+        + "var data = arguments[1];"
+        + "if (!form) { throw new Error('Form not found: ' + arguments[0]); }"
+        + "function set(input, value) {"
+        + "  if (!input || value === null || value === undefined) { return; }"
+        + "  input.value = String(value);"
+        + "  input.dispatchEvent(new Event('input', {bubbles: true}));"
+        + "  input.dispatchEvent(new Event('change', {bubbles: true}));"
+        + "}"
+        + "['invoice_number', 'customer_name', 'salesman_name'].forEach(function (name) {"
+        + "  set(form.querySelector('[name=\"' + name + '\"]'), data[name]);"
+        + "});"
+        + "var rows = form.querySelectorAll('.line-item');"
+        + "if (data.items.length > 0) {"
+        + "  for (var missing = data.items.length - rows.length; missing > 0; missing--) { addLineItem(); }"
+        + "  rows = form.querySelectorAll('.line-item');"
+        + "  for (var extra = rows.length - 1; extra >= data.items.length; extra--) { rows[extra].remove(); }"
+        + "  rows = form.querySelectorAll('.line-item');"
+        + "  data.items.forEach(function (item, i) {"
+        + "    ['sr_no', 'sku', 'description', 'qty', 'price'].forEach(function (name) {"
+        + "      set(rows[i].querySelector('[name=\"' + name + '[]\"]'), item[name]);"
+        + "    });"
+        + "  });"
+        + "}"
+        + "return rows.length;";
+
+    private String invoiceNumber;
+    private String customerName;
+    private String salesmanName;
+    private final List<Map<String, Object>> items = new ArrayList<>();
+
+    public static OrderForm invoice(String invoiceNumber) {
+        OrderForm form = new OrderForm();
+        form.invoiceNumber = invoiceNumber;
+        return form;
+    }
+
+    public OrderForm customer(String customerName) {
+        this.customerName = customerName;
+        return this;
+    }
+
+    public OrderForm salesman(String salesmanName) {
+        this.salesmanName = salesmanName;
+        return this;
+    }
+
+    /**
+     * Append an item row; Sr# follows the row position
+     */
+    public OrderForm item(String sku, String description, int qty, String price) {
+        Map<String, Object> item = new HashMap<>();
+        item.put("sr_no", items.size() + 1);
+        item.put("sku", sku);
+        item.put("description", description);
+        item.put("qty", qty);
+        item.put("price", price);
+        items.add(item);
+        return this;
+    }
+
+    public String invoiceNumber() {
+        return invoiceNumber;
+    }
+
+    public int itemCount() {
+        return items.size();
+    }
+
+    /**
+     * Fill the add-order form on the index page; returns the number of item rows now in the form
+     */
+    public int fill(WebDriver driver) {
+        return fill(driver, ADD_FORM);
+    }
+
+    /**
+     * Fill the form matched by the selector; returns the number of item rows now in the form
+     */
+    public int fill(WebDriver driver, String formSelector) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("invoice_number", invoiceNumber);
+        data.put("customer_name", customerName);
+        data.put("salesman_name", salesmanName);
+        data.put("items", items);
+        return ((Number) ((JavascriptExecutor) driver).executeScript(FILL, formSelector, data)).intValue();
+    }
+
+    /**
+     * The request body the browser would send for this form (application/x-www-form-urlencoded)
+     */
+    String toFormBody() {
+        StringJoiner body = new StringJoiner("&");
+        addField(body, "invoice_number", invoiceNumber);
+        addField(body, "customer_name", customerName);
+        addField(body, "salesman_name", salesmanName);
+        for (Map<String, Object> item : items) {
+            for (String name : new String[]{"sr_no", "sku", "description", "qty", "price"}) {
+                addField(body, name + "[]", item.get(name));
+            }
+        }
+        return body.toString();
+    }
+
+    /**
+     * The order document the app would store for this form, with the same defaults and totals
+     */
+    Document toDocument() {
+        List<Document> lines = new ArrayList<>();
+        int totalQuantity = 0;
+        double totalAmount = 0;
+        for (Map<String, Object> item : items) {
+            int qty = (Integer) item.get("qty");
+            double price = Double.parseDouble(String.valueOf(item.get("price")));
+            lines.add(new Document("sr_no", item.get("sr_no"))
+                .append("sku", item.get("sku"))
+                .append("description", item.get("description"))
+                .append("qty", qty)
+                .append("price", price)
+                .append("amount", qty * price));
+            totalQuantity += qty;
+            totalAmount += qty * price;
+        }
+        // The app stores datetime.now() without a zone, i.e. local wall-clock time read back as UTC
+        Date createdAt = Date.from(LocalDateTime.now().toInstant(ZoneOffset.UTC));
+        return new Document("invoice_number", invoiceNumber)
+            .append("customer_name", isBlank(customerName) ? "Walk-in Customer" : customerName)
+            .append("salesman_name", isBlank(salesmanName) ? "N/A" : salesmanName)
+            .append("items", lines)
+            .append("total_quantity", totalQuantity)
+            .append("total_amount", totalAmount)
+            .append("invoice_image", null)
+            .append("created_at", createdAt);
+    }
+
+    private static void addField(StringJoiner body, String name, Object value) {
+        if (value != null) {
+            body.add(URLEncoder.encode(name, StandardCharsets.UTF_8) + "="
+                + URLEncoder.encode(String.valueOf(value), StandardCharsets.UTF_8));
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isEmpty();
+    }
+}
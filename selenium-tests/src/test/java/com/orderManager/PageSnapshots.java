@@ -0,0 +1,151 @@
+package com.orderManager;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Shared plumbing for the page objects: one executeScript call returns a plain JSON-like map
+ * describing the whole page, which is then turned into immutable value objects on the Java side.
+ * Assertions read the snapshot instead of issuing a WebDriver call per element or attribute.
+ */
+public final class PageSnapshots {
+
+    /** Page-side helpers available to every snapshot script */
+    static final String HELPERS =
+        "function text(el) { return el ? el.textContent.replace(/\\s+/g, ' ').trim() : null; }"
+        + "function number(s) { if (s == null) { return null; } var n = parseFloat(String(s).replace(/[^0-9.\\-]/g, '')); return isNaN(n) ? null : n; }"
+        + "function shown(el) { return !!el && el.getClientRects().length > 0; }"
+        + "function readForm(form) {"
+        + "  if (!form) { return null; }"
+        + "  var field = function (name) { var input = form.querySelector('[name=\"' + name + '\"]'); return input ? input.value : null; };"
+        + "  var required = [];"
+        + "  form.querySelectorAll('[name][required]').forEach(function (input) {"
+        + "    if (required.indexOf(input.name) < 0) { required.push(input.name); }"
+        + "  });"
+        + "  return {"
+        + "    action: form.getAttribute('action'),"
+        + "    invoice_number: field('invoice_number'),"
+        + "    customer_name: field('customer_name'),"
+        + "    salesman_name: field('salesman_name'),"
+        + "    required: required,"
+        + "    valid: form.checkValidity(),"
+        + "    line_items: Array.from(form.querySelectorAll('.line-item')).map(function (row) {"
+        + "      var value = function (name) { var input = row.querySelector('[name=\"' + name + '[]\"]'); return input ? input.value : null; };"
+        + "      return {sr_no: value('sr_no'), sku: value('sku'), description: value('description'), qty: value('qty'), price: value('price')};"
+        + "    })"
+        + "  };"
+        + "}";
+
+    private PageSnapshots() {
+    }
+
+    /**
+     * Run a snapshot script (HELPERS are prepended) and return its result map
+     */
+    @SuppressWarnings("unchecked")
+    static Map<String, Object> read(WebDriver driver, String script) {
+        Object result = ((JavascriptExecutor) driver).executeScript(HELPERS + script);
+        if (!(result instanceof Map)) {
+            throw new IllegalStateException("Page snapshot script returned " + result);
+        }
+        return (Map<String, Object>) result;
+    }
+
+    static String string(Map<String, Object> values, String key) {
+        Object value = values.get(key);
+        return value == null ? null : String.valueOf(value);
+    }
+
+    static double number(Map<String, Object> values, String key) {
+        Object value = values.get(key);
+        return value instanceof Number ? ((Number) value).doubleValue() : Double.NaN;
+    }
+
+    static long integer(Map<String, Object> values, String key) {
+        Object value = values.get(key);
+        return value instanceof Number ? ((Number) value).longValue() : -1;
+    }
+
+    static boolean flag(Map<String, Object> values, String key) {
+        return Boolean.TRUE.equals(values.get(key));
+    }
+
+    @SuppressWarnings("unchecked")
+    static Map<String, Object> map(Map<String, Object> values, String key) {
+        Object value = values.get(key);
+        return value instanceof Map ? (Map<String, Object>) value : null;
+    }
+
+    /**
+     * Convert a list of maps in the snapshot into value objects
+     */
+    @SuppressWarnings("unchecked")
+    static <T> List<T> list(Map<String, Object> values, String key, Function<Map<String, Object>, T> convert) {
+        Object value = values.get(key);
+        if (!(value instanceof List)) {
+            return List.of();
+        }
+        List<T> converted = new ArrayList<>();
+        for (Object entry : (List<Object>) value) {
+            converted.add(convert.apply((Map<String, Object>) entry));
+        }
+        return Collections.unmodifiableList(converted);
+    }
+
+    /**
+     * State of an order form, shared by the add form on the index page and the edit page
+     */
+    public static final class Form {
+        public final String action;
+        public final String invoiceNumber;
+        public final String customerName;
+        public final String salesmanName;
+        public final Set<String> requiredFields;
+        public final boolean valid;
+        public final List<LineItem> lineItems;
+
+        @SuppressWarnings("unchecked")
+        Form(Map<String, Object> values) {
+            this.action = string(values, "action");
+            this.invoiceNumber = string(values, "invoice_number");
+            this.customerName = string(values, "customer_name");
+            this.salesmanName = string(values, "salesman_name");
+            Object required = values.get("required");
+            this.requiredFields = required instanceof List
+                ? Collections.unmodifiableSet(new TreeSet<>((List<String>) required)) : Set.of();
+            this.valid = flag(values, "valid");
+            this.lineItems = list(values, "line_items", LineItem::new);
+        }
+
+        public boolean isRequired(String fieldName) {
+            return requiredFields.contains(fieldName);
+        }
+    }
+
+    /**
+     * Current input values of one line item row; values are kept as the browser reports them
+     */
+    public static final class LineItem {
+        public final String srNo;
+        public final String sku;
+        public final String description;
+        public final String qty;
+        public final String price;
+
+        LineItem(Map<String, Object> values) {
+            this.srNo = string(values, "sr_no");
+            this.sku = string(values, "sku");
+            this.description = string(values, "description");
+            this.qty = string(values, "qty");
+            this.price = string(values, "price");
+        }
+    }
+}
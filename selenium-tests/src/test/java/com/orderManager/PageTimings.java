@@ -0,0 +1,154 @@
+package com.orderManager;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects Navigation Timing and Resource Timing data for every page the
+ * tests load and aggregates it per route into a percentile report.
+ */
+public final class PageTimings {
+    public static final String[] METRICS = {"ttfb_ms", "dom_content_loaded_ms", "load_ms", "transfer_bytes", "resource_bytes"};
+    private static final Path REPORT = Paths.get("target", "page-timings" + ShardSelector.fileSuffix() + ".csv");
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final long MAX_BYTES = 1L << 30;
+    // Only FULL waits for the load event by default; blocking a LEAN test thread until load
+    // would undo its eager page-load strategy, so LEAN pages record load_ms as -1 unless raised
+    private static final long LOAD_WAIT_MS = Long.getLong("page.timings.loadWaitMs", 5000);
+    private static final long LEAN_LOAD_WAIT_MS = Long.getLong("page.timings.leanLoadWaitMs", 0);
+
+    // Poll until the load event has ended (or arguments[0] ms pass) before reading
+    private static final String READ_TIMINGS =
+        "var done = arguments[arguments.length - 1];"
+        + "var deadline = Date.now() + arguments[0];"
+        + "(function poll() {"
+        + "  var nav = performance.getEntriesByType('navigation')[0];"
+        + "  if (!nav) { done(null); return; }"
+        + "  if (nav.loadEventEnd <= 0 && Date.now() < deadline) { setTimeout(poll, 10); return; }"
+        + "  var resourceBytes = 0;"
+        + "  performance.getEntriesByType('resource').forEach(function (r) { resourceBytes += r.transferSize || 0; });"
+        + "  done({"
+        + "    url: location.href,"
+        + "    ttfb_ms: nav.responseStart - nav.startTime,"
+        + "    dom_content_loaded_ms: nav.domContentLoadedEventEnd > 0 ? nav.domContentLoadedEventEnd - nav.startTime : -1,"
+        + "    load_ms: nav.loadEventEnd > 0 ? nav.loadEventEnd - nav.startTime : -1,"
+        + "    transfer_bytes: nav.transferSize,"
+        + "    resource_bytes: resourceBytes"
+        + "  });"
+        + "})();";
+
+    // route -> metric -> samples
+    private static final Map<String, Map<String, HistogramSamples>> SAMPLES = new ConcurrentSkipListMap<>();
+
+    private PageTimings() {
+    }
+
+    /**
+     * Read the timings of the page currently loaded in the driver; returns the metrics or null for non-http pages
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> record(WebDriver driver, BrowserProfile profile) {
+        long loadWaitMs = profile == BrowserProfile.LEAN ? LEAN_LOAD_WAIT_MS : LOAD_WAIT_MS;
+        Map<String, Object> timings;
+        try {
+            timings = (Map<String, Object>) ((JavascriptExecutor) driver).executeAsyncScript(READ_TIMINGS, loadWaitMs);
+        } catch (Exception e) {
+            return null;
+        }
+        if (timings == null || !String.valueOf(timings.get("url")).startsWith("http")) {
+            return null;
+        }
+
+        Map<String, HistogramSamples> route = SAMPLES.computeIfAbsent(
+            routeOf(String.valueOf(timings.get("url"))), r -> new ConcurrentHashMap<>());
+        for (String metric : METRICS) {
+            Object value = timings.get(metric);
+            // -1 marks a phase that had not finished within the wait (load on LEAN pages)
+            if (value instanceof Number && ((Number) value).doubleValue() >= 0) {
+                route.computeIfAbsent(metric, PageTimings::newSamples).add(((Number) value).doubleValue());
+            }
+        }
+        return timings;
+    }
+
+    /**
+     * Route template for a URL: ids are collapsed and the query string dropped
+     */
+    public static String routeOf(String url) {
+        String path = URI.create(url).getPath();
+        if (path == null || path.isEmpty()) {
+            path = "/";
+        }
+        return path.replaceAll("/[0-9a-f]{24}(?=/|$)", "/{id}");
+    }
+
+    /**
+     * Percentile of the samples recorded so far for one route and metric, or NaN without samples
+     */
+    public static double percentile(String route, String metric, double percentile) {
+        HistogramSamples samples = samples(route, metric);
+        return samples == null ? Double.NaN : samples.percentile(percentile);
+    }
+
+    private static HistogramSamples samples(String route, String metric) {
+        Map<String, HistogramSamples> metrics = SAMPLES.get(route);
+        return metrics == null ? null : metrics.get(metric);
+    }
+
+    // Milliseconds are kept at microsecond resolution, byte counts as they are
+    private static HistogramSamples newSamples(String metric) {
+        return metric.endsWith("_ms") ? new HistogramSamples(MAX_LATENCY_MICROS, 1000) : new HistogramSamples(MAX_BYTES, 1);
+    }
+
+    public static List<String> routes() {
+        return new ArrayList<>(SAMPLES.keySet());
+    }
+
+    /**
+     * Print the per-route percentile table and write it to target/page-timings.csv
+     */
+    public static void report() {
+        if (SAMPLES.isEmpty()) {
+            return;
+        }
+        System.out.println("Page timings per route (p50 / p90 / p95 / max):");
+        try {
+            Files.createDirectories(REPORT.getParent());
+            try (PrintWriter csv = new PrintWriter(Files.newBufferedWriter(REPORT))) {
+                csv.println("route,metric,samples,p50,p90,p95,max");
+                for (String route : routes()) {
+                    for (String metric : METRICS) {
+                        HistogramSamples values = samples(route, metric);
+                        long count = values == null ? 0 : values.count();
+                        if (count == 0) {
+                            continue;
+                        }
+                        double p50 = values.percentile(50);
+                        double p90 = values.percentile(90);
+                        double p95 = values.percentile(95);
+                        double max = values.max();
+                        csv.printf("%s,%s,%d,%.1f,%.1f,%.1f,%.1f%n", route, metric, count, p50, p90, p95, max);
+                        System.out.printf("  %-22s %-22s n=%-4d %10.1f %10.1f %10.1f %10.1f%n",
+                            route, metric, count, p50, p90, p95, max);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Warning: Could not write page timing report - " + e.getMessage());
+        }
+    }
+}
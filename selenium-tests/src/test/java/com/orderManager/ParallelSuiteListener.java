@@ -0,0 +1,27 @@
+package com.orderManager;
+
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+import java.util.List;
+
+/**
+ * Configures parallel execution for every suite before it runs.
+ * Mode comes from -Dtest.parallel (methods, classes or none, default classes)
+ * and the thread count from -Dtest.threads (default: available cores).
+ */
+public class ParallelSuiteListener implements IAlterSuiteListener {
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        XmlSuite.ParallelMode mode = XmlSuite.ParallelMode.getValidParallel(
+            System.getProperty("test.parallel", "classes"));
+        int threads = Integer.getInteger("test.threads", Runtime.getRuntime().availableProcessors());
+
+        for (XmlSuite suite : suites) {
+            suite.setParallel(mode);
+            suite.setThreadCount(Math.max(1, threads));
+        }
+        System.out.println("✓ Running suites with parallel=" + mode + ", threads=" + threads);
+    }
+}
@@ -0,0 +1,233 @@
+package com.orderManager;
+
+import org.bson.Document;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Records every run's per-test durations and per-route page timings into a local history
+ * (.perf-baseline/runs.jsonl) and compares them with the previous runs.
+ * A value regresses when it exceeds the rolling median by more than both k scaled MADs and a
+ * minimum relative increase; regressions are written to target/perf-regressions.txt for the
+ * pipeline to gate on. -Dperf.gate=fail also fails the run, -Dperf.gate=off disables it all.
+ * Each metric is compared with its own last perf.window values, so impact-filtered runs that
+ * measure only some tests do not shorten the baseline of the others. Shards leave their values
+ * in target/perf-run-shard-N.json and {@link ShardRunner} appends one merged line per build.
+ */
+public class PerfBaseline implements ITestListener, ISuiteListener {
+    private static final Path HISTORY = Paths.get(".perf-baseline", "runs.jsonl");
+    private static final Path REGRESSIONS = Paths.get("target", "perf-regressions" + ShardSelector.fileSuffix() + ".txt");
+    private static final Path SHARD_RUN = Paths.get("target", "perf-run" + ShardSelector.fileSuffix() + ".json");
+    private static final String[] ROUTE_METRICS = {"ttfb_ms", "dom_content_loaded_ms"};
+
+    private static final String GATE = System.getProperty("perf.gate", "report");
+    private static final int WINDOW = Integer.getInteger("perf.window", 20);
+    private static final int MIN_RUNS = Integer.getInteger("perf.minRuns", 5);
+    private static final double MAD_FACTOR = Double.parseDouble(System.getProperty("perf.madFactor", "3"));
+    private static final double MIN_INCREASE = Double.parseDouble(System.getProperty("perf.minIncrease", "0.2"));
+    // Scales the MAD to a standard deviation estimate for normally distributed noise
+    private static final double MAD_TO_SIGMA = 1.4826;
+
+    private final Map<String, Double> testMillis = new ConcurrentSkipListMap<>();
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        String name = "test:" + result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName();
+        if (result.getParameters().length > 0) {
+            name += Arrays.toString(result.getParameters());
+        }
+        testMillis.put(name, (double) (result.getEndMillis() - result.getStartMillis()));
+    }
+
+    @Override
+    public void onStart(ISuite suite) {
+        // Files from an earlier run, possibly with another shard count, must not gate this one.
+        // A shard only clears its own; ShardRunner clears the rest before the shards start.
+        try {
+            if (ShardSelector.isSharded()) {
+                Files.deleteIfExists(REGRESSIONS);
+                Files.deleteIfExists(SHARD_RUN);
+            } else {
+                deleteStaleFiles();
+            }
+        } catch (IOException e) {
+            System.err.println("Warning: Could not remove old performance files - " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if ("off".equals(GATE)) {
+            return;
+        }
+        Map<String, Double> current = new TreeMap<>(testMillis);
+        for (String route : PageTimings.routes()) {
+            for (String metric : ROUTE_METRICS) {
+                double median = PageTimings.percentile(route, metric, 50);
+                if (!Double.isNaN(median)) {
+                    current.put("route:" + route + " " + metric, median);
+                }
+            }
+        }
+        if (current.isEmpty()) {
+            return;
+        }
+
+        List<String> regressions = new ArrayList<>();
+        try {
+            regressions = compare(current, history());
+            if (ShardSelector.isSharded()) {
+                Files.write(SHARD_RUN, metrics(current).toJson().getBytes(StandardCharsets.UTF_8));
+            } else {
+                append(current);
+            }
+            if (!regressions.isEmpty()) {
+                Files.createDirectories(REGRESSIONS.getParent());
+                Files.write(REGRESSIONS, regressions, StandardCharsets.UTF_8);
+            }
+        } catch (IOException e) {
+            System.err.println("Warning: Could not update performance baseline - " + e.getMessage());
+        }
+
+        if (regressions.isEmpty()) {
+            System.out.println("✓ No performance regressions in " + current.size() + " tracked values");
+            return;
+        }
+        System.out.println("⚠ Performance regressions against the last " + WINDOW + " runs:");
+        regressions.forEach(r -> System.out.println("  " + r));
+        if ("fail".equals(GATE)) {
+            throw new IllegalStateException(regressions.size() + " performance regression(s), see " + REGRESSIONS);
+        }
+    }
+
+    /**
+     * Values that exceed their baseline; metrics with fewer than perf.minRuns earlier values are skipped
+     */
+    static List<String> compare(Map<String, Double> current, List<Map<String, Double>> history) {
+        List<String> regressions = new ArrayList<>();
+        for (Map.Entry<String, Double> entry : current.entrySet()) {
+            List<Double> previous = new ArrayList<>();
+            for (Map<String, Double> run : history) {
+                if (run.containsKey(entry.getKey())) {
+                    previous.add(run.get(entry.getKey()));
+                }
+            }
+            if (previous.size() < MIN_RUNS) {
+                continue;
+            }
+            double median = Stats.percentile(previous, 50);
+            List<Double> deviations = new ArrayList<>();
+            for (double value : previous) {
+                deviations.add(Math.abs(value - median));
+            }
+            double mad = Stats.percentile(deviations, 50);
+            double threshold = median + Math.max(MAD_FACTOR * MAD_TO_SIGMA * mad, MIN_INCREASE * median);
+            if (entry.getValue() > threshold) {
+                regressions.add(String.format(Locale.ROOT,
+                    "%s: %.1f ms, baseline median %.1f ms (MAD %.1f, threshold %.1f, n=%d)",
+                    entry.getKey(), entry.getValue(), median, mad, threshold, previous.size()));
+            }
+        }
+        return regressions;
+    }
+
+    /**
+     * Earlier values of every metric, oldest first, limited to each metric's last perf.window values
+     */
+    private static List<Map<String, Double>> history() throws IOException {
+        List<Map<String, Double>> runs = new ArrayList<>();
+        if (!Files.exists(HISTORY)) {
+            return runs;
+        }
+        for (String line : Files.readAllLines(HISTORY, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                Document metrics = Document.parse(line).get("metrics", Document.class);
+                Map<String, Double> run = new TreeMap<>();
+                metrics.forEach((key, value) -> run.put(key, ((Number) value).doubleValue()));
+                runs.add(run);
+            } catch (RuntimeException e) {
+                // Skip a truncated or hand-edited line
+            }
+        }
+        // Walk back from the newest run and keep a metric only while it has fewer than WINDOW newer values
+        Map<String, Integer> kept = new TreeMap<>();
+        for (int i = runs.size() - 1; i >= 0; i--) {
+            runs.get(i).keySet().removeIf(key -> kept.merge(key, 1, Integer::sum) > WINDOW);
+        }
+        return runs;
+    }
+
+    /**
+     * Remove every regression and shard result file; called once before a run starts
+     */
+    static void deleteStaleFiles() throws IOException {
+        Path target = Paths.get("target");
+        if (!Files.isDirectory(target)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(target)) {
+            for (Path file : files.filter(f -> f.getFileName().toString().matches("perf-(regressions|run).*\\.(txt|json)"))
+                    .collect(Collectors.toList())) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /**
+     * Append one history line for a sharded build, merged from every shard's result file
+     */
+    static void appendShardRuns() throws IOException {
+        if ("off".equals(GATE) || !Files.isDirectory(Paths.get("target"))) {
+            return;
+        }
+        Map<String, Double> merged = new TreeMap<>();
+        try (Stream<Path> files = Files.list(Paths.get("target"))) {
+            for (Path file : files.filter(f -> f.getFileName().toString().matches("perf-run-shard-\\d+\\.json"))
+                    .collect(Collectors.toList())) {
+                Document.parse(Files.readString(file)).forEach((key, value) -> merged.put(key, ((Number) value).doubleValue()));
+            }
+        }
+        if (!merged.isEmpty()) {
+            append(merged);
+            System.out.println("✓ Recorded " + merged.size() + " performance values from all shards in " + HISTORY);
+        }
+    }
+
+    private static void append(Map<String, Double> current) throws IOException {
+        Document run = new Document("run_at", Instant.now().toString())
+            .append("commit", System.getenv("GIT_COMMIT"))
+            .append("build", System.getenv("BUILD_NUMBER"))
+            .append("metrics", metrics(current));
+        Files.createDirectories(HISTORY.getParent());
+        Files.write(HISTORY, (run.toJson() + System.lineSeparator()).getBytes(StandardCharsets.UTF_8),
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private static Document metrics(Map<String, Double> current) {
+        Document metrics = new Document();
+        current.forEach(metrics::append);
+        return metrics;
+    }
+}
@@ -0,0 +1,177 @@
+package com.orderManager;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Keys;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Keystroke-to-filtered-DOM latency of the homepage's real-time search at large list sizes.
+ * The homepage renders at most 50 orders, so its rows are cloned up to each size and the page
+ * is re-rendered with document.write, letting the template's own script bind to every row.
+ * The class creates its own fixture order to clone from and deletes it afterwards.
+ * Run with: mvn test -Dgroups=benchmark -Dtest.excludedGroups=
+ */
+@Exercises(routes = {"/"}, templates = {"index.html"})
+public class SearchFilterBenchmarkTest extends BaseTest {
+    private static final Path REPORT = Paths.get("target", "search-filter-latency" + ShardSelector.fileSuffix() + ".csv");
+    private static final double BUDGET_MS = Double.parseDouble(System.getProperty("benchmark.search.budgetMs", "100"));
+
+    // Marks each keystroke, then the end of the app's synchronous filter and the next frame after it.
+    // The input listener is added after the template's, so it runs once filtering is done.
+    private static final String INSTRUMENT =
+        "var input = document.getElementById('searchInput');"
+        + "window.__keystrokes = 0;"
+        + "performance.clearMarks(); performance.clearMeasures();"
+        + "input.addEventListener('keydown', function () { performance.mark('key-' + (++window.__keystrokes)); }, true);"
+        + "input.addEventListener('input', function () {"
+        + "  var n = window.__keystrokes;"
+        + "  performance.measure('filter-' + n, 'key-' + n);"
+        + "  requestAnimationFrame(function () { setTimeout(function () {"
+        + "    performance.measure('frame-' + n, 'key-' + n);"
+        + "  }, 0); });"
+        + "});";
+    private static final String FRAME_MEASURED =
+        "return performance.getEntriesByName('frame-' + window.__keystrokes).length > 0;";
+    private static final String READ_MEASURES =
+        "return performance.getEntriesByType('measure').map(function (m) { return [m.name, m.duration]; });";
+
+    // list size -> keystroke-to-next-frame samples (ms), and the filter's own script time
+    private static final Map<Integer, List<Double>> FRAME_SAMPLES = new ConcurrentSkipListMap<>();
+    private static final Map<Integer, List<Double>> FILTER_SAMPLES = new ConcurrentSkipListMap<>();
+
+    private String fixtureInvoice;
+    private List<String> fixtureIds = List.of();
+
+    @BeforeClass(alwaysRun = true)
+    public void createFixture() {
+        fixtureInvoice = generateUniqueInvoice("SEARCHBENCH");
+        fixtureIds = OrderFixtures.create(OrderFixtures.order(fixtureInvoice, 3));
+    }
+
+    @DataProvider(name = "listSizes")
+    public Object[][] listSizes() {
+        return Arrays.stream(System.getProperty("benchmark.search.sizes", "200,1000,3000").split(","))
+            .map(String::trim)
+            .map(size -> new Object[]{Integer.parseInt(size)})
+            .toArray(Object[][]::new);
+    }
+
+    @Test(groups = "benchmark", dataProvider = "listSizes",
+          description = "Benchmark: search filter latency per rendered list size")
+    public void benchmarkSearchFilterLatency(int size) {
+        navigateTo(BASE_URL);
+        JavascriptExecutor js = (JavascriptExecutor) getDriver();
+        Document page = Jsoup.parse((String) js.executeScript("return document.documentElement.outerHTML;"), BASE_URL);
+        Elements rows = page.select(".order-item");
+        Assert.assertFalse(rows.isEmpty(), "Homepage rendered no orders, not even fixture " + fixtureInvoice);
+        String invoice = rows.first().selectFirst("strong").text().replace("Invoice #", "");
+        renderRows(js, page, rows, size);
+        
+        js.executeScript(INSTRUMENT);
+        WebElement searchInput = getDriver().findElement(By.id("searchInput"));
+        // One narrow, one matching every row and one matching none; every keystroke is a sample
+        for (String term : new String[]{invoice, "invoice", "zq#none"}) {
+            searchInput.sendKeys(term);
+            getWait().until(Waits.scriptTrue(FRAME_MEASURED));
+            searchInput.sendKeys(Keys.chord(Keys.CONTROL, "a"), Keys.BACK_SPACE);
+            getWait().until(Waits.scriptTrue(FRAME_MEASURED));
+        }
+        
+        List<Double> frames = new ArrayList<>();
+        List<Double> filters = new ArrayList<>();
+        for (Object entry : (List<?>) js.executeScript(READ_MEASURES)) {
+            List<?> measure = (List<?>) entry;
+            double duration = ((Number) measure.get(1)).doubleValue();
+            (String.valueOf(measure.get(0)).startsWith("frame-") ? frames : filters).add(duration);
+        }
+        FRAME_SAMPLES.put(size, frames);
+        FILTER_SAMPLES.put(size, filters);
+        
+        double p95 = Stats.percentile(frames, 95);
+        System.out.printf("✓ Benchmark: %d rows, %d keystrokes, p50 %.1f ms, p95 %.1f ms (budget %.0f ms)%n",
+            size, frames.size(), Stats.percentile(frames, 50), p95, BUDGET_MS);
+        Assert.assertTrue(p95 <= BUDGET_MS,
+            String.format("p95 keystroke-to-filtered-DOM latency at %d rows was %.1f ms, budget is %.0f ms", size, p95, BUDGET_MS));
+    }
+    
+    @AfterClass(alwaysRun = true)
+    public void deleteFixture() {
+        try {
+            OrderFixtures.delete(fixtureIds);
+        } catch (Exception e) {
+            System.err.println("Warning: Could not delete search benchmark fixture - " + e.getMessage());
+        }
+    }
+    
+    @AfterClass(alwaysRun = true)
+    public void reportLatency() {
+        if (FRAME_SAMPLES.isEmpty()) {
+            return;
+        }
+        System.out.println("Search filter latency per list size (p50 / p90 / p95 / max ms):");
+        try {
+            Files.createDirectories(REPORT.getParent());
+            try (PrintWriter csv = new PrintWriter(Files.newBufferedWriter(REPORT))) {
+                csv.println("rows,metric,samples,p50,p90,p95,max");
+                for (int size : FRAME_SAMPLES.keySet()) {
+                    report(csv, size, "keystroke_to_frame_ms", FRAME_SAMPLES.get(size));
+                    report(csv, size, "filter_script_ms", FILTER_SAMPLES.get(size));
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Warning: Could not write search filter report - " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Helper method to clone the server-rendered rows up to the target size and re-render the page
+     */
+    private void renderRows(JavascriptExecutor js, Document page, Elements rows, int size) {
+        for (int i = rows.size() - 1; i >= size; i--) {
+            rows.get(i).remove();
+        }
+        Element last = rows.get(Math.min(rows.size(), size) - 1);
+        for (int i = rows.size(); i < size; i++) {
+            Element clone = rows.get(i % rows.size()).clone();
+            last.after(clone);
+            last = clone;
+        }
+        js.executeScript("document.open(); document.write(arguments[0]); document.close();", page.outerHtml());
+        getWait().until(Waits.scriptTrue(
+            "return document.readyState !== 'loading' && document.querySelectorAll('.order-item').length === arguments[0];", size));
+    }
+    
+    private static void report(PrintWriter csv, int size, String metric, List<Double> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        double[] sorted = Stats.sorted(values);
+        double p50 = Stats.percentileOfSorted(sorted, 50);
+        double p90 = Stats.percentileOfSorted(sorted, 90);
+        double p95 = Stats.percentileOfSorted(sorted, 95);
+        double max = sorted[sorted.length - 1];
+        csv.printf("%d,%s,%d,%.2f,%.2f,%.2f,%.2f%n", size, metric, sorted.length, p50, p90, p95, max);
+        System.out.printf("  %6d rows %-22s n=%-4d %8.2f %8.2f %8.2f %8.2f%n", size, metric, sorted.length, p50, p90, p95, max);
+    }
+}
@@ -0,0 +1,226 @@
+package com.orderManager;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * Runs the suite as N separate surefire processes, each with its own JVM and Chrome pool,
+ * then merges their reports into target/surefire-reports and updates the duration history.
+ * Reports from earlier runs are removed first, and only classes whose tests all ran to an
+ * outcome (no errors or skips) update the durations, so aborted shards do not skew later plans.
+ * <pre>mvn test-compile exec:java -Dexec.args="--shards 4"</pre>
+ * The shared test database is reset once here instead of by each shard.
+ */
+public final class ShardRunner {
+    private static final Path REPORTS = Paths.get("target", "surefire-reports");
+    // Settings passed on to every shard when given to this runner with -D
+    private static final List<String> FORWARDED_PREFIXES = List.of("test.", "browser.", "network.");
+
+    private ShardRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int cores = Runtime.getRuntime().availableProcessors();
+        int shards = Integer.getInteger("test.shards", Math.max(1, cores / 2));
+        for (int i = 0; i < args.length; i++) {
+            if ("--shards".equals(args[i]) && i + 1 < args.length) {
+                shards = Math.max(1, Integer.parseInt(args[++i]));
+            }
+        }
+
+        resetDatabase("reset");
+        PerfBaseline.deleteStaleFiles();
+        deleteMergedReports(REPORTS);
+        long started = System.nanoTime();
+        List<Process> processes = new ArrayList<>();
+        List<Path> shardReports = new ArrayList<>();
+        for (int index = 0; index < shards; index++) {
+            Path reports = REPORTS.resolve("shard-" + index).toAbsolutePath();
+            deleteRecursively(reports);
+            Files.createDirectories(reports);
+            shardReports.add(reports);
+            processes.add(new ProcessBuilder(command(index, shards, reports, Math.max(1, cores / shards)))
+                .redirectErrorStream(true)
+                .redirectOutput(Paths.get("target", "shard-" + index + ".log").toFile())
+                .start());
+        }
+
+        List<Integer> failed = new ArrayList<>();
+        for (int index = 0; index < shards; index++) {
+            int exit = processes.get(index).waitFor();
+            System.out.printf("Shard %d/%d finished with exit code %d (log: target/shard-%d.log)%n",
+                index + 1, shards, exit, index);
+            if (exit != 0) {
+                failed.add(index);
+            }
+        }
+        System.out.printf("All %d shards finished in %.1f s%n", shards, (System.nanoTime() - started) / 1e9);
+
+        Map<String, Double> measured = mergeReports(shardReports, REPORTS);
+        updateDurations(measured);
+        PerfBaseline.appendShardRuns();
+        resetDatabase("dropped");
+        TestDatabase.close();
+
+        if (!failed.isEmpty()) {
+            throw new IllegalStateException("Shards " + failed + " failed, see their logs and target/surefire-reports");
+        }
+    }
+
+    private static List<String> command(int index, int shards, Path reports, int threads) {
+        String mavenHome = System.getProperty("maven.home");
+        String mvn = System.getProperty("os.name").toLowerCase(Locale.ROOT).contains("win") ? "mvn.cmd" : "mvn";
+        List<String> command = new ArrayList<>();
+        command.add(mavenHome == null ? mvn : Paths.get(mavenHome, "bin", mvn).toString());
+        command.add("-B");
+        command.add("surefire:test");
+        command.add("-Dshard.index=" + index);
+        command.add("-Dshard.count=" + shards);
+        command.add("-Dtest.reportsDirectory=" + reports);
+        if (System.getProperty("test.threads") == null) {
+            // Share the cores between shards rather than giving each shard all of them
+            command.add("-Dtest.threads=" + threads);
+        }
+        for (String name : new TreeSet<>(System.getProperties().stringPropertyNames())) {
+            if (FORWARDED_PREFIXES.stream().anyMatch(name::startsWith)
+                    && !name.equals("test.reportsDirectory") && !name.equals("test.shards")) {
+                command.add("-D" + name + "=" + System.getProperty(name));
+            }
+        }
+        return command;
+    }
+
+    /**
+     * Merge each shard's surefire XML files by name; returns seconds spent per test class that completed
+     */
+    static Map<String, Double> mergeReports(List<Path> shardReports, Path target) throws Exception {
+        Map<String, List<Path>> byName = new TreeMap<>();
+        for (Path dir : shardReports) {
+            try (Stream<Path> files = Files.list(dir)) {
+                files.filter(f -> f.getFileName().toString().matches("TEST-.*\\.xml"))
+                    .forEach(f -> byName.computeIfAbsent(f.getFileName().toString(), n -> new ArrayList<>()).add(f));
+            }
+        }
+
+        Map<String, Double> classSeconds = new TreeMap<>();
+        Set<String> incomplete = new TreeSet<>();
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        for (Map.Entry<String, List<Path>> entry : byName.entrySet()) {
+            Document merged = null;
+            Element suite = null;
+            double maxTime = 0;
+            for (Path file : entry.getValue()) {
+                Document part = factory.newDocumentBuilder().parse(file.toFile());
+                Element root = part.getDocumentElement();
+                maxTime = Math.max(maxTime, number(root, "time"));
+                if (merged == null) {
+                    merged = part;
+                    suite = root;
+                } else {
+                    for (String counter : new String[]{"tests", "failures", "errors", "skipped"}) {
+                        suite.setAttribute(counter, String.valueOf((long) (number(suite, counter) + number(root, counter))));
+                    }
+                    NodeList cases = root.getElementsByTagName("testcase");
+                    for (int i = 0; i < cases.getLength(); i++) {
+                        suite.appendChild(merged.importNode(cases.item(i), true));
+                    }
+                }
+            }
+            // Shards run side by side, so the suite took as long as its slowest shard
+            suite.setAttribute("time", String.format(Locale.ROOT, "%.3f", maxTime));
+
+            NodeList cases = suite.getElementsByTagName("testcase");
+            for (int i = 0; i < cases.getLength(); i++) {
+                Element testCase = (Element) cases.item(i);
+                String testClass = testCase.getAttribute("classname");
+                classSeconds.merge(testClass, number(testCase, "time"), Double::sum);
+                // An error or skip means the class was cut short (crash, timeout, failed setup)
+                if (testCase.getElementsByTagName("error").getLength() > 0
+                        || testCase.getElementsByTagName("skipped").getLength() > 0) {
+                    incomplete.add(testClass);
+                }
+            }
+
+            Transformer transformer = TransformerFactory.newInstance().newTransformer();
+            transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+            transformer.transform(new DOMSource(merged), new StreamResult(target.resolve(entry.getKey()).toFile()));
+        }
+        classSeconds.remove("");
+        classSeconds.keySet().removeAll(incomplete);
+        return classSeconds;
+    }
+
+    /**
+     * Fold this run's class durations into the history, half old and half new
+     */
+    private static void updateDurations(Map<String, Double> measured) throws IOException {
+        Map<String, Double> durations = ShardSelector.loadDurations();
+        measured.forEach((testClass, seconds) -> durations.merge(testClass, seconds, (old, now) -> (old + now) / 2));
+        ShardSelector.saveDurations(durations);
+        System.out.println("✓ Updated " + ShardSelector.DURATIONS + " with " + measured.size() + " test classes");
+    }
+
+    private static void resetDatabase(String action) {
+        TestDatabase.requireName();
+        if (TestDatabase.isConfigured()) {
+            try {
+                TestDatabase.drop();
+                System.out.println("✓ Test database " + TestDatabase.NAME + " " + action);
+            } catch (Exception e) {
+                System.err.println("Warning: Could not reset test database - " + e.getMessage());
+            }
+        }
+    }
+
+    private static double number(Element element, String attribute) {
+        String value = element.getAttribute(attribute).replace(",", "");
+        return value.isEmpty() ? 0 : Double.parseDouble(value);
+    }
+
+    /**
+     * Remove merged report files of an earlier run; the shard directories are cleared separately
+     */
+    private static void deleteMergedReports(Path dir) throws IOException {
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (Files.isRegularFile(file) && file.getFileName().toString().endsWith(".xml")) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+}
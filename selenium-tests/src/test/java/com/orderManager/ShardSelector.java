@@ -0,0 +1,129 @@
+package com.orderManager;
+
+import org.testng.IAlterSuiteListener;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps only this process's share of the test classes when run with
+ * -Dshard.index=&lt;0..count-1&gt; -Dshard.count=&lt;count&gt;.
+ * Classes are spread by historical duration (longest first onto the least loaded shard),
+ * so every shard computes the same plan from the same .test-durations.properties.
+ */
+public class ShardSelector implements IAlterSuiteListener {
+    public static final int COUNT = Integer.getInteger("shard.count", 1);
+    public static final int INDEX = Integer.getInteger("shard.index", 0);
+    public static final Path DURATIONS = Paths.get(".test-durations.properties");
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        if (!isSharded()) {
+            return;
+        }
+        for (XmlSuite suite : suites) {
+            for (XmlTest test : suite.getTests()) {
+                // Surefire also hands over helpers such as BaseTest; they cost nothing to run
+                Map<String, Double> durations = loadDurations();
+                test.getXmlClasses().stream()
+                    .filter(c -> !hasTests(c.getSupportClass()))
+                    .forEach(c -> durations.put(c.getName(), 0.0));
+                List<String> names = test.getXmlClasses().stream().map(XmlClass::getName).collect(Collectors.toList());
+                List<String> mine = plan(names, durations, COUNT).get(INDEX);
+                test.setXmlClasses(test.getXmlClasses().stream()
+                    .filter(c -> mine.contains(c.getName()))
+                    .collect(Collectors.toList()));
+                System.out.println("✓ Shard " + (INDEX + 1) + "/" + COUNT + " runs " + mine.size()
+                    + " of " + names.size() + " classes: " + mine);
+            }
+        }
+    }
+
+    private static boolean hasTests(Class<?> testClass) {
+        return Arrays.stream(testClass.getMethods()).anyMatch(m -> m.isAnnotationPresent(Test.class));
+    }
+
+    public static boolean isSharded() {
+        return COUNT > 1;
+    }
+
+    /**
+     * Suffix for per-process output files, empty when not sharded
+     */
+    public static String fileSuffix() {
+        return isSharded() ? "-shard-" + INDEX : "";
+    }
+
+    /**
+     * Longest-processing-time-first split; classes without history count as the average known duration
+     */
+    static List<List<String>> plan(List<String> classes, Map<String, Double> durations, int shards) {
+        double fallback = durations.values().stream().mapToDouble(Double::doubleValue)
+            .filter(d -> d > 0).average().orElse(1.0);
+        List<String> ordered = new ArrayList<>(classes);
+        ordered.sort(Comparator.<String>comparingDouble(c -> durations.getOrDefault(c, fallback)).reversed()
+            .thenComparing(Comparator.naturalOrder()));
+
+        List<List<String>> plan = new ArrayList<>();
+        double[] load = new double[shards];
+        for (int i = 0; i < shards; i++) {
+            plan.add(new ArrayList<>());
+        }
+        for (String testClass : ordered) {
+            int lightest = 0;
+            for (int i = 1; i < shards; i++) {
+                if (load[i] < load[lightest]) {
+                    lightest = i;
+                }
+            }
+            plan.get(lightest).add(testClass);
+            load[lightest] += durations.getOrDefault(testClass, fallback);
+        }
+        return plan;
+    }
+
+    /**
+     * Seconds per fully qualified test class from earlier runs
+     */
+    static Map<String, Double> loadDurations() {
+        Map<String, Double> durations = new TreeMap<>();
+        if (!Files.exists(DURATIONS)) {
+            return durations;
+        }
+        Properties properties = new Properties();
+        try (Reader in = Files.newBufferedReader(DURATIONS)) {
+            properties.load(in);
+            for (String name : properties.stringPropertyNames()) {
+                durations.put(name, Double.parseDouble(properties.getProperty(name)));
+            }
+        } catch (IOException | NumberFormatException e) {
+            System.err.println("Warning: Ignoring test duration history - " + e.getMessage());
+        }
+        return durations;
+    }
+
+    static void saveDurations(Map<String, Double> durations) throws IOException {
+        Properties properties = new Properties();
+        durations.forEach((name, seconds) -> properties.setProperty(name, String.format(Locale.ROOT, "%.3f", seconds)));
+        try (Writer out = Files.newBufferedWriter(DURATIONS)) {
+            properties.store(out, "Seconds per test class, updated by ShardRunner");
+        }
+    }
+}
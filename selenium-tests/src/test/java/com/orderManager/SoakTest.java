@@ -0,0 +1,256 @@
+package com.orderManager;
+
+import com.mongodb.client.model.Filters;
+import org.openqa.selenium.By;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * Soak mode: replays the browse, add, search, edit, delete and items journeys in a loop for
+ * hours (-Dsoak.minutes, default 120). Every -Dsoak.sampleSeconds it samples the app's RSS and
+ * open file descriptors from /proc, the browser's JS heap, DOM nodes and event listeners via
+ * DevTools Performance.getMetrics (after a forced GC, always on the items page), and the median
+ * latency of each journey. A failed iteration does not end the run: failures are counted per
+ * sample in an errors column that is trend-checked like the rest, and the run fails when more
+ * than -Dsoak.maxErrorRate (default 5%) of all iterations failed. A series is flagged as leaking
+ * when it rises monotonically (Kendall tau of at least -Dsoak.minTau) and its Theil-Sen trend
+ * adds at least -Dsoak.minGrowth of its starting value over the run. Samples go to
+ * target/soak-samples.csv.
+ * The app is found by -Dsoak.appPid, order_manager/app.pid or a running uvicorn process.
+ * Run with: mvn test -Dgroups=soak -Dtest.excludedGroups= -Dsoak.minutes=240
+ */
+@Exercises(routes = {"/", "/items", "/orders/add", "/orders/{order_id}/edit", "/orders/{order_id}/update", "/orders/{order_id}/delete"},
+           templates = {"index.html", "items.html", "edit.html"})
+public class SoakTest extends BaseTest {
+    private static final Path REPORT = Paths.get("target", "soak-samples" + ShardSelector.fileSuffix() + ".csv");
+    private static final Duration DURATION = Duration.ofMinutes(Long.getLong("soak.minutes", 120));
+    private static final Duration SAMPLE_INTERVAL = Duration.ofSeconds(Long.getLong("soak.sampleSeconds", 60));
+    private static final double MIN_TAU = Double.parseDouble(System.getProperty("soak.minTau", "0.6"));
+    private static final double MIN_GROWTH = Double.parseDouble(System.getProperty("soak.minGrowth", "0.10"));
+    private static final double MAX_ERROR_RATE = Double.parseDouble(System.getProperty("soak.maxErrorRate", "0.05"));
+    private static final int MIN_SAMPLES = 6;
+    private static final String[] JOURNEYS = {"browse", "add", "search", "edit", "delete", "items"};
+    private static final String[] BROWSER_METRICS = {"JSHeapUsedSize", "Nodes", "JSEventListeners", "Documents"};
+    
+    @Test(groups = "soak", description = "Soak: replay the user journeys for hours and flag monotonic growth")
+    public void soak() throws IOException {
+        ProcessMemory app = appProcess();
+        ChromiumDriver chromium = getDriver() instanceof ChromiumDriver ? (ChromiumDriver) getDriver() : null;
+        if (chromium != null) {
+            chromium.executeCdpCommand("Performance.enable", Map.of());
+        }
+        
+        // metric -> one value per sample; journey -> latencies since the last sample
+        Map<String, List<Double>> series = new LinkedHashMap<>();
+        Map<String, List<Double>> window = new LinkedHashMap<>();
+        List<String> columns = new ArrayList<>(List.of("app_rss_bytes", "app_open_fds"));
+        for (String metric : BROWSER_METRICS) {
+            columns.add("browser_" + metric);
+        }
+        for (String journey : JOURNEYS) {
+            columns.add(journey + "_p50_ms");
+        }
+        columns.add("errors");
+        columns.forEach(column -> series.put(column, new ArrayList<>()));
+        
+        // One untimed pass warms the app, the browser cache and the connection pools
+        replayJourneys(0, new LinkedHashMap<>());
+        
+        int iteration = 0;
+        int totalErrors = 0;
+        Files.createDirectories(REPORT.getParent());
+        try (PrintWriter csv = new PrintWriter(Files.newBufferedWriter(REPORT), true)) {
+            csv.println("elapsed_s,iterations," + String.join(",", columns));
+            long started = System.nanoTime();
+            long end = started + DURATION.toNanos();
+            long nextSample = started + SAMPLE_INTERVAL.toNanos();
+            int errors = 0;
+            while (System.nanoTime() < end) {
+                try {
+                    replayJourneys(++iteration, window);
+                } catch (Exception | AssertionError e) {
+                    // A transient failure must not discard hours of samples; the next iteration starts from the homepage
+                    errors++;
+                    totalErrors++;
+                    System.err.println("Warning: Soak iteration " + iteration + " failed - " + e.getMessage());
+                }
+                if (System.nanoTime() >= nextSample) {
+                    Map<String, Double> sample = sample(app, chromium, window);
+                    sample.put("errors", (double) errors);
+                    window.clear();
+                    errors = 0;
+                    nextSample += SAMPLE_INTERVAL.toNanos();
+                    StringBuilder row = new StringBuilder()
+                        .append((System.nanoTime() - started) / 1_000_000_000L).append(',').append(iteration);
+                    for (String column : columns) {
+                        Double value = sample.get(column);
+                        row.append(',').append(value == null ? "" : String.format("%.1f", value));
+                        if (value != null) {
+                            series.get(column).add(value);
+                        }
+                    }
+                    csv.println(row);
+                }
+            }
+            System.out.printf("Soak finished: %d iterations (%d failed) in %s%n", iteration, totalErrors, DURATION);
+        }
+        
+        List<String> growing = new ArrayList<>();
+        System.out.println("Soak trends (samples / Kendall tau / growth over run):");
+        series.forEach((metric, values) -> {
+            if (values.size() < MIN_SAMPLES) {
+                return;
+            }
+            double tau = Stats.kendallTau(values);
+            double growth = relativeGrowth(values);
+            boolean flagged = tau >= MIN_TAU && growth >= MIN_GROWTH;
+            System.out.printf("  %-26s n=%-4d tau %5.2f  growth %+7.1f%%%s%n",
+                metric, values.size(), tau, growth * 100, flagged ? "  ⚠ monotonic growth" : "");
+            if (flagged) {
+                growing.add(metric);
+            }
+        });
+        // Constant failures (e.g. the app is down) have no trend and leave the latency series empty
+        double errorRate = iteration == 0 ? 1 : (double) totalErrors / iteration;
+        Assert.assertTrue(errorRate <= MAX_ERROR_RATE, String.format("%d of %d soak iterations failed (%.1f%%), limit is %.1f%%",
+            totalErrors, iteration, errorRate * 100, MAX_ERROR_RATE * 100));
+        Assert.assertTrue(growing.isEmpty(), "Monotonic growth during soak: " + growing);
+        System.out.println("✓ Soak Passed: no monotonic growth detected");
+    }
+    
+    /**
+     * Helper method to run every journey once, adding each one's latency to the window
+     */
+    private void replayJourneys(int iteration, Map<String, List<Double>> window) {
+        long started = System.nanoTime();
+        navigateTo(BASE_URL);
+        started = lap(window, "browse", started);
+        
+        // Deleting every order keeps the collection size flat, so growth cannot come from data;
+        // an iteration that fails part way still removes its order
+        String invoiceNum = generateUniqueInvoice("SOAK-" + iteration);
+        boolean deleted = false;
+        try {
+            expandAddOrderForm();
+            OrderFixtures.order(invoiceNum, 3).fill(getDriver());
+            submitAndConfirmWrite(getDriver().findElement(By.xpath("//button[text()='Save Order']")),
+                WriteConfirmation.insertOf(invoiceNum));
+            started = lap(window, "add", started);
+            
+            navigateTo(BASE_URL + "/?search=" + invoiceNum);
+            IndexPage.Order order = new IndexPage(getDriver()).snapshot().order(invoiceNum).orElse(null);
+            Assert.assertNotNull(order, "Soak order " + invoiceNum + " should be found by search");
+            started = lap(window, "search", started);
+            
+            navigateTo(BASE_URL + "/orders/" + order.id + "/edit");
+            OrderForm.invoice(invoiceNum).customer("Soak Edited " + iteration).fill(getDriver(), OrderForm.EDIT_FORM);
+            submitAndConfirmWrite(getDriver().findElement(By.xpath("//button[text()='Update Order']")),
+                WriteConfirmation.updateOf(order.id, Filters.eq("customer_name", "Soak Edited " + iteration)));
+            started = lap(window, "edit", started);
+            
+            overrideConfirm();
+            clickAndConfirmWrite(getDriver().findElement(By.cssSelector("button[onclick=\"deleteOrder('" + order.id + "')\"]")),
+                WriteConfirmation.deleteOf(order.id));
+            deleted = true;
+            started = lap(window, "delete", started);
+        } finally {
+            if (!deleted) {
+                removeLeftover(invoiceNum);
+            }
+        }
+        
+        navigateTo(BASE_URL + "/items");
+        lap(window, "items", started);
+    }
+    
+    /**
+     * Helper method to read app and browser resource usage and the window's median latencies
+     */
+    private Map<String, Double> sample(ProcessMemory app, ChromiumDriver chromium, Map<String, List<Double>> window) {
+        Map<String, Double> sample = new LinkedHashMap<>();
+        if (app != null) {
+            putIfKnown(sample, "app_rss_bytes", app.residentBytes());
+            putIfKnown(sample, "app_open_fds", app.openFileDescriptors());
+        }
+        if (chromium != null) {
+            // Collect garbage first so the heap reflects retained objects only; always measured on /items
+            chromium.executeCdpCommand("HeapProfiler.collectGarbage", Map.of());
+            Object metrics = chromium.executeCdpCommand("Performance.getMetrics", Map.of()).get("metrics");
+            if (metrics instanceof List) {
+                for (Object entry : (List<?>) metrics) {
+                    Map<?, ?> metric = (Map<?, ?>) entry;
+                    for (String name : BROWSER_METRICS) {
+                        if (name.equals(metric.get("name")) && metric.get("value") instanceof Number) {
+                            sample.put("browser_" + name, ((Number) metric.get("value")).doubleValue());
+                        }
+                    }
+                }
+            }
+        }
+        window.forEach((journey, latencies) -> sample.put(journey + "_p50_ms", Stats.percentile(latencies, 50)));
+        return sample;
+    }
+    
+    private static void removeLeftover(String invoiceNumber) {
+        try {
+            OrderFixtures.deleteInvoice(invoiceNumber);
+        } catch (Exception e) {
+            System.err.println("Warning: Could not remove soak order " + invoiceNumber + " - " + e.getMessage());
+        }
+    }
+    
+    private static long lap(Map<String, List<Double>> window, String journey, long started) {
+        long now = System.nanoTime();
+        window.computeIfAbsent(journey, j -> new ArrayList<>()).add((now - started) / 1e6);
+        return now;
+    }
+    
+    private static void putIfKnown(Map<String, Double> sample, String metric, long value) {
+        if (value >= 0) {
+            sample.put(metric, (double) value);
+        }
+    }
+    
+    /**
+     * Trend over the whole run relative to the early level, from the robust Theil-Sen slope
+     */
+    private static double relativeGrowth(List<Double> values) {
+        double baseline = Stats.percentile(values.subList(0, Math.min(3, values.size())), 50);
+        double rise = Stats.theilSenSlope(values) * (values.size() - 1);
+        return baseline > 0 ? rise / baseline : (rise > 0 ? Double.POSITIVE_INFINITY : 0);
+    }
+    
+    /**
+     * Helper method to locate the app process: explicit pid, the pid file the pipeline writes, or uvicorn
+     */
+    private static ProcessMemory appProcess() throws IOException {
+        Long pid = Long.getLong("soak.appPid");
+        Path pidFile = Paths.get(System.getProperty("soak.appPidFile", "../order_manager/app.pid"));
+        if (pid == null && Files.exists(pidFile)) {
+            pid = Long.parseLong(Files.readString(pidFile).trim());
+        }
+        if (pid == null) {
+            OptionalLong uvicorn = ProcessMemory.find("uvicorn");
+            pid = uvicorn.isPresent() ? uvicorn.getAsLong() : null;
+        }
+        if (pid == null) {
+            System.out.println("No app process found (-Dsoak.appPid), app memory will not be sampled");
+            return null;
+        }
+        System.out.println("Sampling app process " + pid);
+        return new ProcessMemory(pid);
+    }
+}
@@ -0,0 +1,80 @@
+package com.orderManager;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Small descriptive statistics helpers shared by the timing reports
+ */
+public final class Stats {
+
+    private Stats() {
+    }
+
+    /**
+     * Percentile (0-100) of the values using linear interpolation; NaN when empty
+     */
+    public static double percentile(Collection<? extends Number> values, double percentile) {
+        return percentileOfSorted(sorted(values), percentile);
+    }
+
+    /**
+     * Percentile (0-100) of an already sorted array using linear interpolation; NaN when empty
+     */
+    public static double percentileOfSorted(double[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        double rank = percentile / 100.0 * (sorted.length - 1);
+        int lower = (int) Math.floor(rank);
+        int upper = (int) Math.ceil(rank);
+        return sorted[lower] + (sorted[upper] - sorted[lower]) * (rank - lower);
+    }
+
+    public static double[] sorted(Collection<? extends Number> values) {
+        double[] sorted = values.stream().mapToDouble(Number::doubleValue).toArray();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * Kendall rank correlation of a series with its sample order: 1 when every sample is above all
+     * earlier ones, -1 when always below, near 0 without a trend; NaN with fewer than two samples
+     */
+    public static double kendallTau(List<? extends Number> series) {
+        int n = series.size();
+        if (n < 2) {
+            return Double.NaN;
+        }
+        long concordant = 0;
+        long discordant = 0;
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                int sign = Double.compare(series.get(j).doubleValue(), series.get(i).doubleValue());
+                if (sign > 0) {
+                    concordant++;
+                } else if (sign < 0) {
+                    discordant++;
+                }
+            }
+        }
+        return (concordant - discordant) / (n * (n - 1) / 2.0);
+    }
+
+    /**
+     * Theil-Sen slope per sample step: the median of all pairwise slopes, robust to outliers
+     */
+    public static double theilSenSlope(List<? extends Number> series) {
+        int n = series.size();
+        double[] slopes = new double[n * (n - 1) / 2];
+        int k = 0;
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                slopes[k++] = (series.get(j).doubleValue() - series.get(i).doubleValue()) / (j - i);
+            }
+        }
+        Arrays.sort(slopes);
+        return percentileOfSorted(slopes, 50);
+    }
+}
@@ -0,0 +1,114 @@
+package com.orderManager;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import org.bson.Document;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Names and manages the database namespace this test run owns.
+ * The name comes from TEST_DB_NAME, the same variable the app reads in TEST_MODE,
+ * so concurrent runs that each set their own name never touch each other's data.
+ * There is no shared default: with TEST_MONGO_URI set, a missing name fails the run. The name is
+ * used as given, like the app does, and one that is not a plain database name is rejected.
+ * MongoDB creates the database on first write; it is removed with one dropDatabase.
+ *
+ * All test helpers share one suite-scoped, instrumented {@link MongoClient} so the
+ * TLS and handshake cost is paid once per pooled connection rather than per call.
+ */
+public final class TestDatabase {
+    // Same rule as app.py: letters, digits, '_' and '-', at most 63 characters
+    static final Pattern VALID_NAME = Pattern.compile("[A-Za-z0-9_-]{1,63}");
+    public static final String NAME = resolveName(System.getenv("TEST_DB_NAME"));
+    public static final String URI = System.getenv("TEST_MONGO_URI");
+    public static final MongoMetrics METRICS = new MongoMetrics();
+
+    private static MongoClient client;
+
+    private TestDatabase() {
+    }
+
+    public static boolean isConfigured() {
+        return URI != null && !URI.isEmpty();
+    }
+
+    /**
+     * Fail fast when a database is configured without a valid name of its own
+     */
+    public static void requireName() {
+        if (!isConfigured()) {
+            return;
+        }
+        if (NAME == null) {
+            throw new IllegalStateException("TEST_MONGO_URI is set but TEST_DB_NAME is not; give this run its own "
+                + "database name and start the app with the same TEST_DB_NAME and TEST_MODE=true");
+        }
+        if (!VALID_NAME.matcher(NAME).matches()) {
+            throw new IllegalStateException("TEST_DB_NAME '" + NAME + "' may only use letters, digits, '_' and '-' "
+                + "and at most 63 characters");
+        }
+    }
+
+    /**
+     * The shared client, created on first use
+     */
+    public static synchronized MongoClient client() {
+        if (client == null) {
+            int maxPoolSize = Integer.getInteger("test.mongo.maxPoolSize",
+                Math.max(10, 4 * Runtime.getRuntime().availableProcessors()));
+            MongoClientSettings settings = MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(URI))
+                .applyToConnectionPoolSettings(pool -> pool
+                    .maxSize(maxPoolSize)
+                    .minSize(Math.min(2, maxPoolSize))
+                    .maxConnecting(4)
+                    .maxWaitTime(10, TimeUnit.SECONDS)
+                    .maxConnectionIdleTime(5, TimeUnit.MINUTES)
+                    .addConnectionPoolListener(METRICS))
+                .addCommandListener(METRICS)
+                .build();
+            client = MongoClients.create(settings);
+        }
+        return client;
+    }
+
+    public static MongoDatabase database() {
+        requireName();
+        return client().getDatabase(NAME);
+    }
+
+    public static MongoCollection<Document> orders() {
+        return database().getCollection("orders");
+    }
+
+    /**
+     * Drop this run's database; safe to call when it does not exist
+     */
+    public static void drop() {
+        database().drop();
+    }
+
+    /**
+     * Close the shared client and print where database time was spent
+     */
+    public static synchronized void close() {
+        if (client != null) {
+            client.close();
+            client = null;
+            METRICS.printSummary();
+        }
+    }
+
+    /**
+     * The requested name unchanged, or null when none was given; validated by {@link #requireName()}
+     */
+    static String resolveName(String requested) {
+        return requested == null || requested.isEmpty() ? null : requested;
+    }
+}
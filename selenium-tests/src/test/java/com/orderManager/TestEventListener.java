@@ -0,0 +1,46 @@
+package com.orderManager;
+
+import org.testng.IExecutionListener;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+/**
+ * Marks the start and end of every test body for {@link TestEvents} and flushes
+ * the JSONL writers once the run is over, browser tests or not
+ */
+public class TestEventListener implements IInvokedMethodListener, IExecutionListener {
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            TestEvents.testStarted(testResult.getTestClass().getRealClass().getSimpleName(),
+                method.getTestMethod().getMethodName());
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            TestEvents.testFinished(status(testResult));
+        }
+    }
+
+    @Override
+    public void onExecutionFinish() {
+        AsyncJsonlWriter.closeAll();
+    }
+
+    private static String status(ITestResult result) {
+        switch (result.getStatus()) {
+            case ITestResult.SUCCESS:
+                return "passed";
+            case ITestResult.FAILURE:
+                return "failed";
+            case ITestResult.SKIP:
+                return "skipped";
+            default:
+                return "unknown";
+        }
+    }
+}
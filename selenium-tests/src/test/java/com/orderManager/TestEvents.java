@@ -0,0 +1,136 @@
+package com.orderManager;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Structured timeline of test execution, one JSON line per phase in target/test-events.jsonl.
+ * Phases: acquire (driver from the pool), fixture (test data setup), navigate, wait,
+ * write (submit until MongoDB confirms it), assert (the rest of the test body),
+ * test (the whole body, with its status) and teardown.
+ * Timestamps are nanoseconds since the first event of the run, so lines from parallel
+ * threads can be laid out on one timeline.
+ * Disable with -Dtest.events=false.
+ */
+public final class TestEvents {
+    public static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("test.events", "true"));
+    private static final long ORIGIN = System.nanoTime();
+    private static final Path OUTPUT = Paths.get("target", "test-events" + ShardSelector.fileSuffix() + ".jsonl");
+    private static final ThreadLocal<Context> CONTEXT = ThreadLocal.withInitial(Context::new);
+
+    private static volatile AsyncJsonlWriter sink;
+
+    private TestEvents() {
+    }
+
+    /**
+     * Attribute the following events on this thread to a test
+     */
+    public static void begin(String testClass, String test) {
+        Context context = CONTEXT.get();
+        context.testClass = testClass;
+        context.test = test;
+        context.bodyStart = 0;
+    }
+
+    public static void end() {
+        CONTEXT.remove();
+    }
+
+    /**
+     * Record a phase that started at {@code startNanos} (System.nanoTime) and ends now
+     */
+    public static void record(String phase, long startNanos, String detail) {
+        long duration = System.nanoTime() - startNanos;
+        Context context = CONTEXT.get();
+        if (context.bodyStart != 0) {
+            context.bodyAccounted += duration;
+        }
+        emit(context, phase, startNanos, duration, detail, null);
+    }
+
+    static void testStarted(String testClass, String test) {
+        Context context = CONTEXT.get();
+        context.testClass = testClass;
+        context.test = test;
+        context.bodyStart = System.nanoTime();
+        context.bodyAccounted = 0;
+    }
+
+    /**
+     * Close the test body: one event for all of it and one for the time not spent navigating or waiting
+     */
+    static void testFinished(String status) {
+        Context context = CONTEXT.get();
+        if (context.bodyStart == 0) {
+            return;
+        }
+        long duration = System.nanoTime() - context.bodyStart;
+        emit(context, "assert", context.bodyStart, Math.max(0, duration - context.bodyAccounted), null, null);
+        emit(context, "test", context.bodyStart, duration, null, status);
+        context.bodyStart = 0;
+    }
+
+    private static void emit(Context context, String phase, long start, long duration, String detail, String status) {
+        if (!ENABLED) {
+            return;
+        }
+        StringBuilder json = new StringBuilder(192)
+            .append("{\"phase\":\"").append(phase)
+            .append("\",\"start_ns\":").append(start - ORIGIN)
+            .append(",\"duration_ns\":").append(duration)
+            .append(",\"thread\":");
+        string(json, Thread.currentThread().getName());
+        json.append(",\"test_class\":");
+        string(json, context.testClass);
+        json.append(",\"test\":");
+        string(json, context.test);
+        if (detail != null) {
+            json.append(",\"detail\":");
+            string(json, detail);
+        }
+        if (status != null) {
+            json.append(",\"status\":\"").append(status).append('"');
+        }
+        writer().write(json.append('}').toString());
+    }
+
+    private static AsyncJsonlWriter writer() {
+        AsyncJsonlWriter current = sink;
+        if (current == null) {
+            synchronized (TestEvents.class) {
+                if (sink == null) {
+                    sink = AsyncJsonlWriter.forFile(OUTPUT);
+                }
+                current = sink;
+            }
+        }
+        return current;
+    }
+
+    private static void string(StringBuilder json, String value) {
+        if (value == null) {
+            json.append("null");
+            return;
+        }
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        json.append('"');
+    }
+
+    private static final class Context {
+        String testClass;
+        String test;
+        long bodyStart;
+        long bodyAccounted;
+    }
+}
@@ -0,0 +1,261 @@
+package com.orderManager;
+
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Runs only the test classes affected by the changes since a git revision.
+ * Enabled with -Dtest.impact.base=&lt;rev&gt;; the working tree is diffed against that revision and
+ * each changed template or app.py route is matched against the {@link Exercises} annotations.
+ * Changes to shared files (BaseTest, pom.xml, static assets, app.py setup code, ...)
+ * and any failure to read the diff fall back to the full suite.
+ */
+public class TestImpactSelector implements IAlterSuiteListener {
+    private static final String APP = "order_manager/app.py";
+    private static final String TEMPLATES = "order_manager/templates/";
+    private static final String TEST_SOURCES = "selenium-tests/src/test/java/com/orderManager/";
+
+    // Paths that never affect what the browser or the HTTP tier sees
+    private static final List<String> IGNORED_PREFIXES = List.of("load-tests/", "benchmarks/", "Jenkinsfile", ".gitignore");
+
+    private static final Pattern HUNK = Pattern.compile("^@@ -\\d+(?:,\\d+)? \\+(\\d+)(?:,(\\d+))? @@");
+    private static final Pattern ROUTE = Pattern.compile("^@app\\.\\w+\\(\\s*\"([^\"]+)\"");
+    private static final Pattern DEFINITION = Pattern.compile("^(?:async\\s+)?(?:def|class)\\s+(\\w+)");
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        String base = System.getProperty("test.impact.base", "");
+        if (base.isEmpty()) {
+            return;
+        }
+        Impact impact;
+        try {
+            impact = impactSince(base);
+        } catch (IOException | RuntimeException e) {
+            System.out.println("⚠ Test impact selection unavailable, running full suite - " + e.getMessage());
+            return;
+        }
+        if (impact.fullSuite != null) {
+            System.out.println("✓ Test impact: full suite (" + impact.fullSuite + " changed)");
+            return;
+        }
+
+        for (XmlSuite suite : suites) {
+            for (XmlTest test : suite.getTests()) {
+                List<XmlClass> selected = test.getXmlClasses().stream()
+                    .filter(c -> isAffected(c.getSupportClass(), impact))
+                    .collect(Collectors.toList());
+                test.setXmlClasses(selected);
+            }
+        }
+        System.out.println("✓ Test impact since " + base + ": routes=" + impact.routes
+            + " templates=" + impact.templates + " classes=" + impact.testClasses);
+    }
+
+    /**
+     * A class is affected if it changed itself, is not annotated, or exercises a changed route or template
+     */
+    static boolean isAffected(Class<?> testClass, Impact impact) {
+        if (impact.testClasses.contains(testClass.getSimpleName())) {
+            return true;
+        }
+        Exercises exercises = testClass.getAnnotation(Exercises.class);
+        if (exercises == null) {
+            return true;
+        }
+        return Arrays.stream(exercises.routes()).anyMatch(impact.routes::contains)
+            || Arrays.stream(exercises.templates()).anyMatch(impact.templates::contains);
+    }
+
+    /**
+     * Classify every file changed between the revision and the working tree
+     */
+    static Impact impactSince(String base) throws IOException {
+        Path root = Paths.get(git(Paths.get("."), "rev-parse", "--show-toplevel").trim());
+        Impact impact = new Impact();
+        for (String file : git(root, "diff", "--name-only", base, "--").split("\n")) {
+            if (file.isBlank() || IGNORED_PREFIXES.stream().anyMatch(file::startsWith) || file.endsWith(".md")) {
+                continue;
+            }
+            if (file.startsWith(TEMPLATES)) {
+                impact.templates.add(file.substring(TEMPLATES.length()));
+            } else if (file.equals(APP)) {
+                String diff = git(root, "diff", "--unified=0", base, "--", APP);
+                Path app = root.resolve(APP);
+                if (!Files.exists(app) || !addChangedRoutes(Files.readAllLines(app), diff, impact)) {
+                    impact.fullSuite = APP + " setup code";
+                    return impact;
+                }
+            } else if (file.startsWith(TEST_SOURCES) && file.endsWith("Test.java") && !file.contains("/Base")) {
+                String name = file.substring(TEST_SOURCES.length(), file.length() - ".java".length());
+                impact.testClasses.add(name);
+            } else {
+                impact.fullSuite = file;
+                return impact;
+            }
+        }
+        return impact;
+    }
+
+    /**
+     * Map the hunks of an app.py diff to the routes they touch; false if a hunk touches shared code
+     */
+    static boolean addChangedRoutes(List<String> source, String diff, Impact impact) {
+        Map<String, Block> blocks = new LinkedHashMap<>();
+        Block[] blockOfLine = blocksOf(source, blocks);
+
+        Set<String> changedNames = new HashSet<>();
+        for (String line : diff.split("\n")) {
+            Matcher hunk = HUNK.matcher(line);
+            if (!hunk.find()) {
+                continue;
+            }
+            int start = Integer.parseInt(hunk.group(1));
+            int count = hunk.group(2) == null ? 1 : Integer.parseInt(hunk.group(2));
+            // Pure deletions report the line before the removed range
+            int first = Math.max(1, start);
+            int last = Math.max(first, start + count - 1);
+            for (int n = first; n <= last && n <= source.size(); n++) {
+                Block block = blockOfLine[n - 1];
+                if (block == null) {
+                    return false;
+                }
+                if (block.route != null) {
+                    impact.routes.add(block.route);
+                } else {
+                    changedNames.add(block.name);
+                }
+            }
+        }
+
+        // Helpers and models affect every route that uses them, directly or through other helpers
+        Set<String> reached = new HashSet<>(changedNames);
+        boolean grew = !reached.isEmpty();
+        while (grew) {
+            grew = false;
+            for (Block block : blocks.values()) {
+                if (!reached.contains(block.name) && block.references(reached)) {
+                    reached.add(block.name);
+                    grew = true;
+                }
+            }
+        }
+        boolean usedByRoute = changedNames.isEmpty();
+        for (Block block : blocks.values()) {
+            if (block.route != null && reached.contains(block.name)) {
+                impact.routes.add(block.route);
+                usedByRoute = true;
+            }
+        }
+        return usedByRoute;
+    }
+
+    /**
+     * Split app.py into top-level function and class blocks; setup code between them maps to null
+     */
+    private static Block[] blocksOf(List<String> source, Map<String, Block> blocks) {
+        Block[] blockOfLine = new Block[source.size()];
+        Block current = null;
+        String pendingRoute = null;
+        int decoratorStart = -1;
+        for (int i = 0; i < source.size(); i++) {
+            String line = source.get(i);
+            boolean topLevel = !line.isEmpty() && !Character.isWhitespace(line.charAt(0)) && !line.startsWith("#");
+            Matcher definition = DEFINITION.matcher(line);
+            if (topLevel && line.startsWith("@")) {
+                Matcher route = ROUTE.matcher(line);
+                if (route.find()) {
+                    pendingRoute = route.group(1);
+                }
+                decoratorStart = decoratorStart < 0 ? i : decoratorStart;
+                current = null;
+            } else if (topLevel && definition.find()) {
+                current = new Block(definition.group(1), pendingRoute);
+                blocks.put(current.name, current);
+                for (int d = Math.max(0, decoratorStart); decoratorStart >= 0 && d < i; d++) {
+                    blockOfLine[d] = current;
+                }
+                pendingRoute = null;
+                decoratorStart = -1;
+            } else if (topLevel && !line.startsWith(")")) {
+                // Anything else at column 0 is module setup; a lone ")" closes a multi-line signature
+                current = null;
+                pendingRoute = null;
+                decoratorStart = -1;
+            }
+            if (current != null) {
+                blockOfLine[i] = current;
+                current.body.append(line).append('\n');
+            }
+        }
+        return blockOfLine;
+    }
+
+    /**
+     * Run git in a directory; paths in its output are relative to the repository root
+     */
+    private static String git(Path directory, String... args) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add("git");
+        command.addAll(Arrays.asList(args));
+        Process process = new ProcessBuilder(command).directory(directory.toFile()).redirectErrorStream(true).start();
+        String output;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            output = reader.lines().collect(Collectors.joining("\n"));
+        }
+        try {
+            if (!process.waitFor(30, TimeUnit.SECONDS) || process.exitValue() != 0) {
+                throw new IOException("git " + String.join(" ", args) + " failed: " + output);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while running git", e);
+        }
+        return output;
+    }
+
+    static final class Impact {
+        final Set<String> routes = new TreeSet<>();
+        final Set<String> templates = new TreeSet<>();
+        final Set<String> testClasses = new TreeSet<>();
+        String fullSuite;
+    }
+
+    private static final class Block {
+        final String name;
+        final String route;
+        final StringBuilder body = new StringBuilder();
+
+        Block(String name, String route) {
+            this.name = name;
+            this.route = route;
+        }
+
+        boolean references(Set<String> names) {
+            return names.stream().anyMatch(n -> Pattern.compile("\\b" + Pattern.quote(n) + "\\b").matcher(body).find());
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.orderManager;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Route selection of {@link TestImpactSelector} on a fixed app.py and --unified=0 diffs, run without the app
+ */
+public class TestImpactSelectorTest {
+    private static final List<String> APP = List.of(
+        "import os",                                    // 1
+        "from fastapi import FastAPI",                  // 2
+        "",                                             // 3
+        "app = FastAPI()",                              // 4
+        "",                                             // 5
+        "",                                             // 6
+        "class OrderIn(BaseModel):",                    // 7
+        "    invoice_number: str",                      // 8
+        "",                                             // 9
+        "",                                             // 10
+        "def format_total(value):",                     // 11
+        "    return f\"{value:.2f}\"",                  // 12
+        "",                                             // 13
+        "",                                             // 14
+        "async def get_kpis():",                        // 15
+        "    total = 0",                                // 16
+        "    return format_total(total)",               // 17
+        "",                                             // 18
+        "",                                             // 19
+        "def unused_helper():",                         // 20
+        "    return 1",                                 // 21
+        "",                                             // 22
+        "",                                             // 23
+        "@app.get(\"/\")",                              // 24
+        "async def index(request: Request):",           // 25
+        "    kpis = await get_kpis()",                  // 26
+        "    return kpis",                              // 27
+        "",                                             // 28
+        "",                                             // 29
+        "@app.post(\"/orders/add\")",                   // 30
+        "async def add_order(",                         // 31
+        "    invoice_number: str = Form(None),",        // 32
+        "    customer_name: str = Form(None)",          // 33
+        "):",                                           // 34
+        "    order = OrderIn(invoice_number=invoice_number)", // 35
+        "    return order",                             // 36
+        "",                                             // 37
+        "",                                             // 38
+        "@app.get(\"/items\")",                         // 39
+        "async def items_page(request: Request):",      // 40
+        "    return []");                               // 41
+
+    @Test(description = "A change inside a route body selects that route")
+    public void testRouteBodyChange() {
+        assertRoutes(diff("@@ -27 +27 @@ async def index(request: Request):", "-    return {}", "+    return kpis"), "/");
+    }
+
+    @Test(description = "A change to a route decorator selects that route")
+    public void testDecoratorChange() {
+        assertRoutes(diff("@@ -24 +24 @@", "-@app.get(\"/home\")", "+@app.get(\"/\")"), "/");
+    }
+
+    @Test(description = "A multi-line signature closed by a lone ) stays in its route")
+    public void testMultiLineSignature() {
+        assertRoutes(diff("@@ -34,2 +34,2 @@", "-) -> dict:", "-    order = None", "+):",
+            "+    order = OrderIn(invoice_number=invoice_number)"), "/orders/add");
+    }
+
+    @Test(description = "A pure deletion is attributed to the block before the removed lines")
+    public void testPureDeletion() {
+        assertRoutes(diff("@@ -37,2 +36,0 @@ async def add_order(", "-    print(order)", "-    order.save()"), "/orders/add");
+    }
+
+    @Test(description = "A helper change selects every route that reaches it, also through other helpers")
+    public void testTransitiveHelper() {
+        assertRoutes(diff("@@ -12 +12 @@ def format_total(value):", "-    return str(value)", "+    return f\"{value:.2f}\""), "/");
+    }
+
+    @Test(description = "A model change selects the routes that use the model")
+    public void testModelChange() {
+        assertRoutes(diff("@@ -8 +8 @@ class OrderIn(BaseModel):", "-    invoice: str", "+    invoice_number: str"), "/orders/add");
+    }
+
+    @Test(description = "Hunks in several routes select all of them")
+    public void testSeveralHunks() {
+        assertRoutes(diff("@@ -27 +27 @@", "-    return {}", "+    return kpis", "@@ -41 +41 @@", "-    return None", "+    return []"),
+            "/", "/items");
+    }
+
+    @Test(description = "A change to module setup code falls back to the full suite")
+    public void testSetupCodeFallsBack() {
+        TestImpactSelector.Impact impact = new TestImpactSelector.Impact();
+        Assert.assertFalse(TestImpactSelector.addChangedRoutes(APP, diff("@@ -4 +4 @@", "-app = FastAPI(debug=True)", "+app = FastAPI()"), impact),
+            "Setup code should not map to routes");
+    }
+
+    @Test(description = "A helper no route uses falls back to the full suite")
+    public void testUnusedHelperFallsBack() {
+        TestImpactSelector.Impact impact = new TestImpactSelector.Impact();
+        Assert.assertFalse(TestImpactSelector.addChangedRoutes(APP, diff("@@ -21 +21 @@ def unused_helper():", "-    return 0", "+    return 1"), impact),
+            "A helper outside every route should not narrow the suite");
+    }
+
+    @Test(description = "Classes run when they changed, are unannotated or exercise a changed route or template")
+    public void testClassSelection() {
+        TestImpactSelector.Impact impact = new TestImpactSelector.Impact();
+        impact.routes.add("/");
+        Assert.assertTrue(TestImpactSelector.isAffected(HomepageContentTest.class, impact), "Homepage tests exercise /");
+        Assert.assertFalse(TestImpactSelector.isAffected(ItemsContentTest.class, impact), "Items tests do not exercise /");
+        Assert.assertTrue(TestImpactSelector.isAffected(TestImpactSelectorTest.class, impact), "Unannotated classes always run");
+
+        impact.routes.clear();
+        impact.templates.add("items.html");
+        Assert.assertTrue(TestImpactSelector.isAffected(ItemsContentTest.class, impact), "Items tests render items.html");
+
+        impact.templates.clear();
+        impact.testClasses.add("HomepageContentTest");
+        Assert.assertTrue(TestImpactSelector.isAffected(HomepageContentTest.class, impact), "A changed test class runs");
+    }
+
+    private static void assertRoutes(String diff, String... expected) {
+        TestImpactSelector.Impact impact = new TestImpactSelector.Impact();
+        Assert.assertTrue(TestImpactSelector.addChangedRoutes(APP, diff, impact), "Diff should map to routes");
+        Assert.assertEquals(impact.routes, Set.of(expected));
+    }
+
+    private static String diff(String... hunkLines) {
+        return "diff --git a/order_manager/app.py b/order_manager/app.py\n"
+            + "--- a/order_manager/app.py\n"
+            + "+++ b/order_manager/app.py\n"
+            + String.join("\n", hunkLines) + "\n";
+    }
+}
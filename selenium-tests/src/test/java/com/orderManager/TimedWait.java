@@ -0,0 +1,27 @@
+package com.orderManager;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * WebDriverWait that records every wait as a {@link TestEvents} "wait" phase
+ */
+public class TimedWait extends WebDriverWait {
+
+    public TimedWait(WebDriver driver, Duration timeout) {
+        super(driver, timeout);
+    }
+
+    @Override
+    public <V> V until(Function<? super WebDriver, V> isTrue) {
+        long started = System.nanoTime();
+        try {
+            return super.until(isTrue);
+        } finally {
+            TestEvents.record("wait", started, null);
+        }
+    }
+}
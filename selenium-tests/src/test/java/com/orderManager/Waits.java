@@ -0,0 +1,99 @@
+package com.orderManager;
+
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.CapabilityType;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+
+import java.time.Duration;
+
+/**
+ * Explicit wait conditions used instead of fixed sleeps.
+ * Each condition is polled by WebDriverWait and returns as soon as it holds.
+ */
+public final class Waits {
+
+    /** Poll interval for WebDriverWait; short enough that waits end right after the event */
+    public static final Duration POLL_INTERVAL = Duration.ofMillis(25);
+
+    private static final String OBSERVE_MUTATIONS =
+        "if (!window.__mutationObserver) {"
+        + "  window.__lastMutation = performance.now();"
+        + "  window.__mutationObserver = new MutationObserver(function () { window.__lastMutation = performance.now(); });"
+        + "  window.__mutationObserver.observe(document, {subtree: true, childList: true, attributes: true, characterData: true});"
+        + "  return false;"
+        + "}"
+        + "return performance.now() - window.__lastMutation >= arguments[0];";
+
+    private Waits() {
+    }
+
+    /**
+     * Navigation complete: the document has finished loading, or has been parsed
+     * when the session uses the eager page-load strategy
+     */
+    public static ExpectedCondition<Boolean> navigationComplete() {
+        return driver -> {
+            Object state = ((JavascriptExecutor) driver).executeScript("return document.readyState;");
+            return "complete".equals(state) || ("interactive".equals(state) && isEager(driver));
+        };
+    }
+
+    /**
+     * DOM mutation settled: no DOM changes for the given quiet period
+     */
+    public static ExpectedCondition<Boolean> domSettled(Duration quietPeriod) {
+        return driver -> Boolean.TRUE.equals(
+            ((JavascriptExecutor) driver).executeScript(OBSERVE_MUTATIONS, quietPeriod.toMillis()));
+    }
+
+    /**
+     * A details element has been toggled open
+     */
+    public static ExpectedCondition<Boolean> detailsOpen(WebElement details) {
+        return driver -> Boolean.TRUE.equals(
+            ((JavascriptExecutor) driver).executeScript("return arguments[0].open === true;", details));
+    }
+
+    /**
+     * Redirect landed: the previous page is gone and the new one has loaded at an expected URL
+     */
+    public static ExpectedCondition<Boolean> redirectLanded(WebElement fromPage, String... expectedUrls) {
+        return driver -> {
+            if (!isStale(fromPage)) {
+                return false;
+            }
+            String url = driver.getCurrentUrl();
+            boolean matches = expectedUrls.length == 0;
+            for (String expected : expectedUrls) {
+                matches |= url.equals(expected);
+            }
+            return matches && navigationComplete().apply(driver);
+        };
+    }
+
+    /**
+     * Arbitrary page-side predicate; the script must return a boolean
+     */
+    public static ExpectedCondition<Boolean> scriptTrue(String script, Object... args) {
+        return driver -> Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(script, args));
+    }
+
+    private static boolean isEager(WebDriver driver) {
+        return driver instanceof HasCapabilities && PageLoadStrategy.EAGER.toString().equals(
+            String.valueOf(((HasCapabilities) driver).getCapabilities().getCapability(CapabilityType.PAGE_LOAD_STRATEGY)));
+    }
+
+    private static boolean isStale(WebElement element) {
+        try {
+            element.isEnabled();
+            return false;
+        } catch (StaleElementReferenceException e) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.orderManager;
+
+import com.mongodb.MongoException;
+import com.mongodb.ReadConcern;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Waits for a specific order to be inserted, updated or deleted in MongoDB after a UI action.
+ * Create it before the action so no event is missed; {@link #await(Duration)} then returns as
+ * soon as the write is majority-committed. A change stream is used when the deployment supports
+ * it (replica sets); on a standalone server it falls back to tight majority-read polling on an
+ * indexed field. Submit-to-durable and submit-to-visible latencies are reported per operation
+ * in target/write-latency.csv from fixed-size histograms. Without TEST_MONGO_URI only the page
+ * side is timed.
+ */
+public final class WriteConfirmation implements AutoCloseable {
+    private static final Path REPORT = Paths.get("target", "write-latency" + ShardSelector.fileSuffix() + ".csv");
+    private static final String[] METRICS = {"submit_to_durable_ms", "submit_to_visible_ms"};
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final long POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    // Decided on first use: null = not tried yet
+    private static volatile Boolean changeStreams;
+    private static volatile boolean invoiceIndexed;
+
+    // operation -> metric -> samples
+    private static final Map<String, Map<String, HistogramSamples>> SAMPLES = new ConcurrentSkipListMap<>();
+
+    private final String operation;
+    private final Bson match;
+    private final Bson expected;
+    private final MongoChangeStreamCursor<ChangeStreamDocument<Document>> stream;
+    private long submittedAt;
+    private long durableAt;
+
+    private WriteConfirmation(String operation, Bson match, Bson expected) {
+        this.operation = operation;
+        this.match = match;
+        this.expected = expected;
+        this.stream = TestDatabase.isConfigured() ? openStream(match) : null;
+    }
+
+    /**
+     * Wait for a new order with this invoice number
+     */
+    public static WriteConfirmation insertOf(String invoiceNumber) {
+        return new WriteConfirmation("insert",
+            Filters.and(Filters.eq("operationType", "insert"), Filters.eq("fullDocument.invoice_number", invoiceNumber)),
+            Filters.eq("invoice_number", invoiceNumber));
+    }
+
+    /**
+     * Wait for an update of this order after which it matches {@code expected}
+     */
+    public static WriteConfirmation updateOf(String orderId, Bson expected) {
+        return new WriteConfirmation("update",
+            Filters.and(Filters.in("operationType", "update", "replace"), Filters.eq("documentKey._id", new ObjectId(orderId))),
+            Filters.and(Filters.eq("_id", new ObjectId(orderId)), expected));
+    }
+
+    /**
+     * Wait for this order to be deleted
+     */
+    public static WriteConfirmation deleteOf(String orderId) {
+        return new WriteConfirmation("delete",
+            Filters.and(Filters.eq("operationType", "delete"), Filters.eq("documentKey._id", new ObjectId(orderId))),
+            Filters.eq("_id", new ObjectId(orderId)));
+    }
+
+    /**
+     * Mark the moment the UI action was sent
+     */
+    public void submitted() {
+        submittedAt = System.nanoTime();
+    }
+
+    /**
+     * Block until the write is durable; returns the submit-to-durable time, or null without a database
+     */
+    public Duration await(Duration timeout) {
+        if (!TestDatabase.isConfigured()) {
+            return null;
+        }
+        long deadline = System.nanoTime() + timeout.toNanos();
+        boolean confirmed = stream != null ? awaitEvent(deadline) : awaitPoll(deadline);
+        if (!confirmed) {
+            throw new AssertionError(operation + " of " + expected.toBsonDocument() + " not confirmed by MongoDB within " + timeout);
+        }
+        durableAt = System.nanoTime();
+        add("submit_to_durable_ms", durableAt - submittedAt);
+        TestEvents.record("write", submittedAt, operation);
+        return Duration.ofNanos(durableAt - submittedAt);
+    }
+
+    /**
+     * Mark the moment the page showed the result of the write
+     */
+    public void visible() {
+        add("submit_to_visible_ms", System.nanoTime() - submittedAt);
+    }
+
+    @Override
+    public void close() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private boolean awaitEvent(long deadline) {
+        while (System.nanoTime() < deadline) {
+            // tryNext waits at most maxAwaitTime on the server, so the deadline is re-checked regularly
+            if (stream.tryNext() != null && isConfirmed()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean awaitPoll(long deadline) {
+        ensureInvoiceIndex();
+        while (true) {
+            if (isConfirmed()) {
+                return true;
+            }
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            LockSupport.parkNanos(POLL_NANOS);
+        }
+    }
+
+    /**
+     * The order is in its expected post-write state, read at majority so the write is durable
+     */
+    private boolean isConfirmed() {
+        MongoCollection<Document> orders = TestDatabase.orders().withReadConcern(ReadConcern.MAJORITY);
+        boolean found = orders.find(expected).projection(Projections.include("_id")).limit(1).first() != null;
+        return "delete".equals(operation) != found;
+    }
+
+    private static MongoChangeStreamCursor<ChangeStreamDocument<Document>> openStream(Bson match) {
+        if (Boolean.FALSE.equals(changeStreams)) {
+            return null;
+        }
+        try {
+            MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = TestDatabase.orders()
+                .watch(List.of(Aggregates.match(match)))
+                .maxAwaitTime(50, TimeUnit.MILLISECONDS)
+                .cursor();
+            changeStreams = true;
+            return cursor;
+        } catch (MongoException e) {
+            // Standalone servers have no oplog to stream from
+            System.out.println("Change streams unavailable (" + e.getMessage() + "), polling for writes instead");
+            changeStreams = false;
+            return null;
+        }
+    }
+
+    private static void ensureInvoiceIndex() {
+        if (!invoiceIndexed) {
+            TestDatabase.orders().createIndex(Indexes.ascending("invoice_number"));
+            invoiceIndexed = true;
+        }
+    }
+
+    private void add(String metric, long nanos) {
+        SAMPLES.computeIfAbsent(operation, o -> new ConcurrentHashMap<>())
+            .computeIfAbsent(metric, m -> new HistogramSamples(MAX_LATENCY_MICROS, 1000))
+            .add(nanos / 1e6);
+    }
+
+    /**
+     * Print the per-operation percentile table and write it to target/write-latency.csv
+     */
+    public static void report() {
+        if (SAMPLES.isEmpty()) {
+            return;
+        }
+        System.out.println("Write latency per operation (p50 / p95 / max ms):");
+        try {
+            Files.createDirectories(REPORT.getParent());
+            try (PrintWriter csv = new PrintWriter(Files.newBufferedWriter(REPORT))) {
+                csv.println("operation,metric,samples,p50,p95,max");
+                SAMPLES.forEach((operation, metrics) -> {
+                    for (String metric : METRICS) {
+                        HistogramSamples values = metrics.get(metric);
+                        long count = values == null ? 0 : values.count();
+                        if (count == 0) {
+                            continue;
+                        }
+                        double p50 = values.percentile(50);
+                        double p95 = values.percentile(95);
+                        double max = values.max();
+                        csv.printf("%s,%s,%d,%.1f,%.1f,%.1f%n", operation, metric, count, p50, p95, max);
+                        System.out.printf("  %-8s %-22s n=%-4d %10.1f %10.1f %10.1f%n",
+                            operation, metric, count, p50, p95, max);
+                    }
+                });
+            }
+        } catch (IOException e) {
+            System.err.println("Warning: Could not write write latency report - " + e.getMessage());
+        }
+    }
+}